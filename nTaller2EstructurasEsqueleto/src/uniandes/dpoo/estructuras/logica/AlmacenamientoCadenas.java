@@ -0,0 +1,19 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Las diferentes estructuras que puede usar SandboxListas para guardar su lista de cadenas.
+ */
+public enum AlmacenamientoCadenas
+{
+    /**
+     * Las cadenas se guardan en un ArrayList. El acceso por posición toma tiempo constante, agregar al final toma tiempo constante amortizado y los recorridos aprovechan
+     * que las referencias están contiguas en memoria. Es la opción por defecto y la recomendada para casi todos los usos.
+     */
+    ARREGLO,
+
+    /**
+     * Las cadenas se guardan en una LinkedList. Sólo conviene cuando la mayoría de las operaciones insertan o eliminan cerca del inicio de la lista: el acceso por posición
+     * toma tiempo lineal, cada cadena ocupa un nodo adicional y los recorridos son más lentos porque los nodos están dispersos en memoria.
+     */
+    ENLAZADO
+}
@@ -0,0 +1,21 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Las diferentes estructuras que puede usar SandboxConjuntos para guardar su conjunto de cadenas.
+ */
+public enum AlmacenamientoConjunto
+{
+    /**
+     * Las cadenas se guardan en un árbol balanceado (TreeSet) con un índice adicional para las consultas sin mayúsculas ni minúsculas. Cada cadena ocupa un nodo del
+     * árbol además del objeto String. Los recorridos son más rápidos que en el trie porque las cadenas no se reconstruyen, pero contar las cadenas de un rango
+     * (SandboxConjuntos.contarEnRango) toma tiempo proporcional a la cantidad de cadenas del rango.
+     */
+    ARBOL,
+
+    /**
+     * Las cadenas se guardan en un trie comprimido (ConjuntoTrie): los prefijos comunes se guardan una sola vez y las cadenas no se guardan como objetos String. Conviene
+     * cuando hay muchas cadenas que comparten prefijos largos (rutas, códigos de productos, etc.), a cambio de que cada cadena que se consulta o se recorre se tiene que
+     * reconstruir. Cada nodo sabe cuántas cadenas hay en su subárbol, así que contar las cadenas de un rango no depende de cuántas haya. Es la opción por defecto.
+     */
+    TRIE
+}
@@ -0,0 +1,67 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Esta clase reúne las operaciones para comparar cadenas sin diferenciar entre mayúsculas y minúsculas que usan las clases Sandbox.
+ * 
+ * Las comparaciones usan String.equalsIgnoreCase, que compara caracter por caracter sin construir cadenas nuevas (como lo haría llamar toLowerCase sobre cada
+ * cadena).
+ */
+final class ComparacionCadenas
+{
+    /**
+     * Esta clase sólo tiene métodos de clase, así que no debería instanciarse
+     */
+    private ComparacionCadenas( )
+    {
+    }
+
+    /**
+     * Indica si dos cadenas son iguales sin diferenciar entre mayúsculas y minúsculas
+     * @param cadena1 La primera cadena. No puede ser null.
+     * @param cadena2 La segunda cadena. Si es null, el resultado es false.
+     * @return True si las cadenas tienen el mismo tamaño y sus caracteres son iguales sin tener en cuenta mayúsculas y minúsculas
+     */
+    static boolean igualesSinMayusculas( String cadena1, String cadena2 )
+    {
+        return cadena1.equalsIgnoreCase( cadena2 );
+    }
+
+    /**
+     * Cuenta cuántas de las primeras posiciones de un arreglo contienen una cadena igual a la buscada, sin diferenciar entre mayúsculas y minúsculas
+     * @param cadenas El arreglo donde se busca
+     * @param cantidad La cantidad de posiciones del arreglo que se deben revisar
+     * @param buscada La cadena buscada
+     * @return La cantidad de apariciones de la cadena
+     */
+    static int contarSinMayusculas( String[] cadenas, int cantidad, String buscada )
+    {
+        int conteo = 0;
+        for( int i = 0; i < cantidad; i++ )
+        {
+            if( igualesSinMayusculas( buscada, cadenas[ i ] ) )
+            {
+                conteo++;
+            }
+        }
+        return conteo;
+    }
+
+    /**
+     * Cuenta cuántos elementos de una colección son iguales a la cadena buscada, sin diferenciar entre mayúsculas y minúsculas
+     * @param cadenas Las cadenas donde se busca
+     * @param buscada La cadena buscada
+     * @return La cantidad de apariciones de la cadena
+     */
+    static int contarSinMayusculas( Iterable<String> cadenas, String buscada )
+    {
+        int conteo = 0;
+        for( String elemento : cadenas )
+        {
+            if( igualesSinMayusculas( buscada, elemento ) )
+            {
+                conteo++;
+            }
+        }
+        return conteo;
+    }
+}
@@ -0,0 +1,33 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.NavigableSet;
+
+/**
+ * Un conjunto de cadenas ordenado lexicográficamente que además permite consultar y eliminar cadenas sin diferenciar entre mayúsculas y minúsculas, sin tener que
+ * recorrer todo el conjunto.
+ *
+ * Las cadenas se consideran iguales sin mayúsculas ni minúsculas con el mismo criterio de ComparacionCadenas.
+ */
+interface ConjuntoCadenas extends NavigableSet<String>
+{
+    /**
+     * Indica si el conjunto tiene una cadena, sin diferenciar entre mayúsculas y minúsculas
+     * @param cadena La cadena buscada
+     * @return True si alguna cadena del conjunto es igual a la buscada sin tener en cuenta mayúsculas y minúsculas
+     */
+    boolean contieneSinMayusculas( String cadena );
+
+    /**
+     * Cuenta cuántas cadenas del conjunto son iguales a la cadena buscada, sin diferenciar entre mayúsculas y minúsculas
+     * @param cadena La cadena buscada
+     * @return La cantidad de formas distintas en las que la cadena aparece en el conjunto
+     */
+    int contarSinMayusculas( String cadena );
+
+    /**
+     * Elimina todas las cadenas del conjunto que son iguales a la cadena dada, sin diferenciar entre mayúsculas y minúsculas
+     * @param cadena La cadena que se va a eliminar
+     * @return La cantidad de cadenas eliminadas
+     */
+    int eliminarSinMayusculas( String cadena );
+}
@@ -0,0 +1,434 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Esta clase es un conjunto de cadenas ordenado lexicográficamente (igual que un TreeSet) que además mantiene un índice para consultar las cadenas sin diferenciar entre
+ * mayúsculas y minúsculas.
+ *
+ * El índice es un árbol ordenado con String.CASE_INSENSITIVE_ORDER, que asocia cada cadena (sin tener en cuenta mayúsculas y minúsculas) con las formas en las que está
+ * escrita dentro del conjunto. Así, verificar si una cadena está, contar sus formas o eliminarlas toma tiempo logarítmico en lugar de recorrer todo el conjunto. Esta
+ * comparación es la misma que usa ComparacionCadenas.
+ *
+ * Las vistas parciales del conjunto (headSet, tailSet, subSet y descendingSet) se pueden modificar igual que las de un TreeSet: los cambios que se hacen sobre ellas
+ * (o sobre sus iteradores) pasan al conjunto y también actualizan el índice.
+ */
+final class ConjuntoCadenasIndexado extends TreeSet<String> implements ConjuntoCadenas
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * El índice que asocia cada cadena, sin tener en cuenta mayúsculas y minúsculas, con las formas en las que aparece en el conjunto
+     */
+    private TreeMap<String, TreeSet<String>> indice;
+
+    /**
+     * Crea un conjunto vacío
+     */
+    ConjuntoCadenasIndexado( )
+    {
+        super( );
+        indice = new TreeMap<String, TreeSet<String>>( String.CASE_INSENSITIVE_ORDER );
+    }
+
+    /**
+     * Agrega una cadena al índice
+     * @param cadena La cadena que se agregó al conjunto
+     */
+    private void indexar( String cadena )
+    {
+        TreeSet<String> formas = indice.get( cadena );
+        if( formas == null )
+        {
+            formas = new TreeSet<String>( );
+            indice.put( cadena, formas );
+        }
+        formas.add( cadena );
+    }
+
+    /**
+     * Retira una cadena del índice
+     * @param cadena La cadena que se eliminó del conjunto
+     */
+    private void desindexar( String cadena )
+    {
+        TreeSet<String> formas = indice.get( cadena );
+        if( formas != null )
+        {
+            formas.remove( cadena );
+            if( formas.isEmpty( ) )
+            {
+                indice.remove( cadena );
+            }
+        }
+    }
+
+    @Override
+    public boolean contieneSinMayusculas( String cadena )
+    {
+        return indice.containsKey( cadena );
+    }
+
+    @Override
+    public int contarSinMayusculas( String cadena )
+    {
+        TreeSet<String> formas = indice.get( cadena );
+        return formas == null ? 0 : formas.size( );
+    }
+
+    @Override
+    public int eliminarSinMayusculas( String cadena )
+    {
+        TreeSet<String> formas = indice.remove( cadena );
+        if( formas == null )
+        {
+            return 0;
+        }
+        for( String forma : formas )
+        {
+            super.remove( forma );
+        }
+        return formas.size( );
+    }
+
+    @Override
+    public boolean add( String cadena )
+    {
+        boolean agregada = super.add( cadena );
+        if( agregada )
+        {
+            indexar( cadena );
+        }
+        return agregada;
+    }
+
+    @Override
+    public boolean addAll( Collection<? extends String> cadenas )
+    {
+        boolean cambio = false;
+        for( String cadena : cadenas )
+        {
+            cambio |= add( cadena );
+        }
+        return cambio;
+    }
+
+    @Override
+    public boolean remove( Object o )
+    {
+        boolean eliminada = super.remove( o );
+        if( eliminada )
+        {
+            desindexar( ( String )o );
+        }
+        return eliminada;
+    }
+
+    @Override
+    public void clear( )
+    {
+        super.clear( );
+        indice.clear( );
+    }
+
+    @Override
+    public String pollFirst( )
+    {
+        String primera = super.pollFirst( );
+        if( primera != null )
+        {
+            desindexar( primera );
+        }
+        return primera;
+    }
+
+    @Override
+    public String pollLast( )
+    {
+        String ultima = super.pollLast( );
+        if( ultima != null )
+        {
+            desindexar( ultima );
+        }
+        return ultima;
+    }
+
+    @Override
+    public Iterator<String> iterator( )
+    {
+        return new IteradorIndexado( super.iterator( ) );
+    }
+
+    @Override
+    public Iterator<String> descendingIterator( )
+    {
+        return new IteradorIndexado( super.descendingIterator( ) );
+    }
+
+    @Override
+    public NavigableSet<String> descendingSet( )
+    {
+        return new VistaIndexada( super.descendingSet( ) );
+    }
+
+    @Override
+    public NavigableSet<String> headSet( String hasta, boolean incluida )
+    {
+        return new VistaIndexada( super.headSet( hasta, incluida ) );
+    }
+
+    @Override
+    public NavigableSet<String> tailSet( String desde, boolean incluida )
+    {
+        return new VistaIndexada( super.tailSet( desde, incluida ) );
+    }
+
+    @Override
+    public NavigableSet<String> subSet( String desde, boolean desdeIncluida, String hasta, boolean hastaIncluida )
+    {
+        return new VistaIndexada( super.subSet( desde, desdeIncluida, hasta, hastaIncluida ) );
+    }
+
+    @Override
+    public Object clone( )
+    {
+        ConjuntoCadenasIndexado copia = ( ConjuntoCadenasIndexado )super.clone( );
+        copia.indice = new TreeMap<String, TreeSet<String>>( String.CASE_INSENSITIVE_ORDER );
+        for( String cadena : copia )
+        {
+            copia.indexar( cadena );
+        }
+        return copia;
+    }
+
+    /**
+     * Iterador sobre el conjunto que actualiza el índice cuando se elimina un elemento
+     */
+    private class IteradorIndexado implements Iterator<String>
+    {
+        /**
+         * El iterador del árbol
+         */
+        private final Iterator<String> base;
+
+        /**
+         * La última cadena retornada por el iterador
+         */
+        private String ultima;
+
+        /**
+         * Crea un iterador a partir del iterador del árbol
+         * @param base El iterador del árbol
+         */
+        IteradorIndexado( Iterator<String> base )
+        {
+            this.base = base;
+        }
+
+        @Override
+        public boolean hasNext( )
+        {
+            return base.hasNext( );
+        }
+
+        @Override
+        public String next( )
+        {
+            ultima = base.next( );
+            return ultima;
+        }
+
+        @Override
+        public void remove( )
+        {
+            base.remove( );
+            desindexar( ultima );
+        }
+    }
+
+    /**
+     * Vista parcial del conjunto (un rango o el conjunto en orden descendente) que delega en la vista correspondiente del árbol y actualiza el índice cada vez que se
+     * agrega o se elimina una cadena a través de ella
+     */
+    private class VistaIndexada extends AbstractSet<String> implements NavigableSet<String>
+    {
+        /**
+         * La vista del árbol sobre la que opera esta vista
+         */
+        private final NavigableSet<String> base;
+
+        /**
+         * Crea una vista a partir de una vista del árbol
+         * @param base La vista del árbol
+         */
+        VistaIndexada( NavigableSet<String> base )
+        {
+            this.base = base;
+        }
+
+        @Override
+        public int size( )
+        {
+            return base.size( );
+        }
+
+        @Override
+        public boolean isEmpty( )
+        {
+            return base.isEmpty( );
+        }
+
+        @Override
+        public boolean contains( Object o )
+        {
+            return base.contains( o );
+        }
+
+        @Override
+        public boolean add( String cadena )
+        {
+            boolean agregada = base.add( cadena );
+            if( agregada )
+            {
+                indexar( cadena );
+            }
+            return agregada;
+        }
+
+        @Override
+        public boolean remove( Object o )
+        {
+            boolean eliminada = base.remove( o );
+            if( eliminada )
+            {
+                desindexar( ( String )o );
+            }
+            return eliminada;
+        }
+
+        @Override
+        public String pollFirst( )
+        {
+            String primera = base.pollFirst( );
+            if( primera != null )
+            {
+                desindexar( primera );
+            }
+            return primera;
+        }
+
+        @Override
+        public String pollLast( )
+        {
+            String ultima = base.pollLast( );
+            if( ultima != null )
+            {
+                desindexar( ultima );
+            }
+            return ultima;
+        }
+
+        @Override
+        public Iterator<String> iterator( )
+        {
+            return new IteradorIndexado( base.iterator( ) );
+        }
+
+        @Override
+        public Iterator<String> descendingIterator( )
+        {
+            return new IteradorIndexado( base.descendingIterator( ) );
+        }
+
+        @Override
+        public Comparator<? super String> comparator( )
+        {
+            return base.comparator( );
+        }
+
+        @Override
+        public String first( )
+        {
+            return base.first( );
+        }
+
+        @Override
+        public String last( )
+        {
+            return base.last( );
+        }
+
+        @Override
+        public String lower( String cadena )
+        {
+            return base.lower( cadena );
+        }
+
+        @Override
+        public String floor( String cadena )
+        {
+            return base.floor( cadena );
+        }
+
+        @Override
+        public String ceiling( String cadena )
+        {
+            return base.ceiling( cadena );
+        }
+
+        @Override
+        public String higher( String cadena )
+        {
+            return base.higher( cadena );
+        }
+
+        @Override
+        public NavigableSet<String> descendingSet( )
+        {
+            return new VistaIndexada( base.descendingSet( ) );
+        }
+
+        @Override
+        public NavigableSet<String> headSet( String hasta, boolean incluida )
+        {
+            return new VistaIndexada( base.headSet( hasta, incluida ) );
+        }
+
+        @Override
+        public NavigableSet<String> tailSet( String desde, boolean incluida )
+        {
+            return new VistaIndexada( base.tailSet( desde, incluida ) );
+        }
+
+        @Override
+        public NavigableSet<String> subSet( String desde, boolean desdeIncluida, String hasta, boolean hastaIncluida )
+        {
+            return new VistaIndexada( base.subSet( desde, desdeIncluida, hasta, hastaIncluida ) );
+        }
+
+        @Override
+        public SortedSet<String> headSet( String hasta )
+        {
+            return headSet( hasta, false );
+        }
+
+        @Override
+        public SortedSet<String> tailSet( String desde )
+        {
+            return tailSet( desde, true );
+        }
+
+        @Override
+        public SortedSet<String> subSet( String desde, String hasta )
+        {
+            return subSet( desde, true, hasta, false );
+        }
+    }
+}
@@ -0,0 +1,524 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * Esta clase es un conjunto de cadenas ordenado lexicográficamente (con el mismo orden que un TreeSet&lt;String&gt;) que guarda las cadenas en un trie comprimido.
+ *
+ * Cuando las cadenas comparten prefijos largos, el trie ocupa mucha menos memoria que un TreeSet: cada prefijo común se guarda una sola vez y no se conserva un objeto
+ * String por cadena. A cambio, las cadenas que se retornan (al recorrer el conjunto o al consultar first, ceiling, etc.) se reconstruyen a partir del trie.
+ *
+ * Las vistas que retornan headSet, tailSet, subSet y descendingSet son objetos de esta misma clase que comparten el trie: reflejan los cambios del conjunto y los
+ * cambios que se hagan sobre ellas se reflejan en el conjunto. Los iteradores no fallan si el conjunto se modifica mientras se recorre: siempre continúan con la
+ * siguiente cadena que haya en ese momento.
+ */
+final class ConjuntoTrie extends AbstractSet<String> implements ConjuntoCadenas
+{
+    /**
+     * El trie donde están las cadenas. Lo comparten el conjunto y todas sus vistas.
+     */
+    private final TrieCadenas trie;
+
+    /**
+     * La menor cadena que puede estar en esta vista, o null si no hay límite inferior
+     */
+    private final String desde;
+
+    /**
+     * Indica si la cadena 'desde' hace parte de la vista
+     */
+    private final boolean desdeIncluida;
+
+    /**
+     * La mayor cadena que puede estar en esta vista, o null si no hay límite superior
+     */
+    private final String hasta;
+
+    /**
+     * Indica si la cadena 'hasta' hace parte de la vista
+     */
+    private final boolean hastaIncluida;
+
+    /**
+     * Indica si la vista recorre las cadenas de mayor a menor
+     */
+    private final boolean descendente;
+
+    /**
+     * Crea un conjunto vacío
+     */
+    ConjuntoTrie( )
+    {
+        this( new TrieCadenas( ), null, false, null, false, false );
+    }
+
+    /**
+     * Crea un conjunto con las cadenas de una colección
+     * @param cadenas Las cadenas que se van a agregar al conjunto
+     */
+    ConjuntoTrie( Collection<? extends String> cadenas )
+    {
+        this( );
+        addAll( cadenas );
+    }
+
+    /**
+     * Crea una vista sobre un trie. Los límites siempre se expresan en orden ascendente, aunque la vista sea descendente.
+     * @param trie El trie con las cadenas
+     * @param desde La menor cadena de la vista, o null
+     * @param desdeIncluida Indica si 'desde' hace parte de la vista
+     * @param hasta La mayor cadena de la vista, o null
+     * @param hastaIncluida Indica si 'hasta' hace parte de la vista
+     * @param descendente Indica si la vista recorre las cadenas de mayor a menor
+     */
+    private ConjuntoTrie( TrieCadenas trie, String desde, boolean desdeIncluida, String hasta, boolean hastaIncluida, boolean descendente )
+    {
+        this.trie = trie;
+        this.desde = desde;
+        this.desdeIncluida = desdeIncluida;
+        this.hasta = hasta;
+        this.hastaIncluida = hastaIncluida;
+        this.descendente = descendente;
+    }
+
+    /**
+     * Indica si una cadena está por debajo del límite inferior de la vista
+     * @param cadena La cadena
+     * @return True si la cadena es menor que el límite inferior
+     */
+    private boolean esMuyBaja( String cadena )
+    {
+        if( desde == null )
+        {
+            return false;
+        }
+        int comparacion = cadena.compareTo( desde );
+        return comparacion < 0 || ( comparacion == 0 && !desdeIncluida );
+    }
+
+    /**
+     * Indica si una cadena está por encima del límite superior de la vista
+     * @param cadena La cadena
+     * @return True si la cadena es mayor que el límite superior
+     */
+    private boolean esMuyAlta( String cadena )
+    {
+        if( hasta == null )
+        {
+            return false;
+        }
+        int comparacion = cadena.compareTo( hasta );
+        return comparacion > 0 || ( comparacion == 0 && !hastaIncluida );
+    }
+
+    /**
+     * Indica si una cadena está dentro de los límites de la vista
+     * @param cadena La cadena
+     * @return True si la cadena puede estar en la vista
+     */
+    private boolean estaEnRango( String cadena )
+    {
+        return !esMuyBaja( cadena ) && !esMuyAlta( cadena );
+    }
+
+    /**
+     * Retorna la menor cadena de la vista
+     * @return La menor cadena, o null si la vista está vacía
+     */
+    private String buscarMenor( )
+    {
+        String menor = desde == null ? trie.getPrimera( ) : trie.buscarTecho( desde, desdeIncluida );
+        return menor == null || esMuyAlta( menor ) ? null : menor;
+    }
+
+    /**
+     * Retorna la mayor cadena de la vista
+     * @return La mayor cadena, o null si la vista está vacía
+     */
+    private String buscarMayor( )
+    {
+        String mayor = hasta == null ? trie.getUltima( ) : trie.buscarPiso( hasta, hastaIncluida );
+        return mayor == null || esMuyBaja( mayor ) ? null : mayor;
+    }
+
+    /**
+     * Busca la menor cadena de la vista que es mayor (o igual) a una cadena dada
+     * @param cadena La cadena de referencia
+     * @param inclusivo Indica si la cadena misma puede ser la respuesta
+     * @return La cadena encontrada, o null si no hay ninguna
+     */
+    private String buscarTecho( String cadena, boolean inclusivo )
+    {
+        if( esMuyBaja( cadena ) )
+        {
+            return buscarMenor( );
+        }
+        String techo = trie.buscarTecho( cadena, inclusivo );
+        return techo == null || esMuyAlta( techo ) ? null : techo;
+    }
+
+    /**
+     * Busca la mayor cadena de la vista que es menor (o igual) a una cadena dada
+     * @param cadena La cadena de referencia
+     * @param inclusivo Indica si la cadena misma puede ser la respuesta
+     * @return La cadena encontrada, o null si no hay ninguna
+     */
+    private String buscarPiso( String cadena, boolean inclusivo )
+    {
+        if( esMuyAlta( cadena ) )
+        {
+            return buscarMayor( );
+        }
+        String piso = trie.buscarPiso( cadena, inclusivo );
+        return piso == null || esMuyBaja( piso ) ? null : piso;
+    }
+
+    /**
+     * Indica si una cadena está dentro de los límites de la vista, contando los límites aunque no hagan parte de ella
+     * @param cadena La cadena
+     * @return True si la cadena está entre el límite inferior y el superior, o es igual a alguno de ellos
+     */
+    private boolean estaEnRangoCerrado( String cadena )
+    {
+        return ( desde == null || cadena.compareTo( desde ) >= 0 ) && ( hasta == null || cadena.compareTo( hasta ) <= 0 );
+    }
+
+    /**
+     * Verifica que un nuevo límite para una vista de este conjunto esté dentro de los límites de esta vista. Se usa el mismo criterio que TreeSet: un límite que hace
+     * parte de la nueva vista debe poder estar en esta vista, y un límite que no hace parte de ella puede ser igual a uno de los límites de esta vista.
+     * @param limite El nuevo límite, o null si no se agrega
+     * @param incluido Indica si el nuevo límite hace parte de la nueva vista
+     * @throws IllegalArgumentException Si el límite está por fuera de esta vista
+     */
+    private void verificarLimite( String limite, boolean incluido )
+    {
+        if( limite != null && !( incluido ? estaEnRango( limite ) : estaEnRangoCerrado( limite ) ) )
+        {
+            throw new IllegalArgumentException( "El límite está por fuera de los límites del conjunto: " + limite );
+        }
+    }
+
+    /**
+     * Crea una vista de este conjunto con límites adicionales, expresados en orden ascendente. Los límites que no se indican se conservan de esta vista.
+     * @param nuevoDesde El nuevo límite inferior, o null si no se agrega
+     * @param nuevoDesdeIncluido Indica si el nuevo límite inferior hace parte de la vista
+     * @param nuevoHasta El nuevo límite superior, o null si no se agrega
+     * @param nuevoHastaIncluido Indica si el nuevo límite superior hace parte de la vista
+     * @return La nueva vista, con el mismo sentido que esta
+     * @throws IllegalArgumentException Si alguno de los nuevos límites está por fuera de esta vista, o si el nuevo límite inferior es mayor que el nuevo límite superior
+     */
+    private ConjuntoTrie acotar( String nuevoDesde, boolean nuevoDesdeIncluido, String nuevoHasta, boolean nuevoHastaIncluido )
+    {
+        verificarLimite( nuevoDesde, nuevoDesdeIncluido );
+        verificarLimite( nuevoHasta, nuevoHastaIncluido );
+        if( nuevoDesde != null && nuevoHasta != null && nuevoDesde.compareTo( nuevoHasta ) > 0 )
+        {
+            throw new IllegalArgumentException( "El límite inferior es mayor que el límite superior: " + nuevoDesde + " > " + nuevoHasta );
+        }
+        String limiteDesde = nuevoDesde == null ? desde : nuevoDesde;
+        boolean limiteDesdeIncluido = nuevoDesde == null ? desdeIncluida : nuevoDesdeIncluido;
+        String limiteHasta = nuevoHasta == null ? hasta : nuevoHasta;
+        boolean limiteHastaIncluido = nuevoHasta == null ? hastaIncluida : nuevoHastaIncluido;
+        return new ConjuntoTrie( trie, limiteDesde, limiteDesdeIncluido, limiteHasta, limiteHastaIncluido, descendente );
+    }
+
+    /**
+     * Busca las cadenas de la vista que son iguales a una cadena dada, sin diferenciar entre mayúsculas y minúsculas
+     * @param cadena La cadena buscada
+     * @return Las cadenas encontradas
+     */
+    private List<String> buscarSinMayusculas( String cadena )
+    {
+        List<String> encontradas = new ArrayList<String>( );
+        trie.buscarSinMayusculas( cadena, encontradas );
+        if( desde != null || hasta != null )
+        {
+            encontradas.removeIf( encontrada -> !estaEnRango( encontrada ) );
+        }
+        return encontradas;
+    }
+
+    @Override
+    public boolean contieneSinMayusculas( String cadena )
+    {
+        return !buscarSinMayusculas( cadena ).isEmpty( );
+    }
+
+    @Override
+    public int contarSinMayusculas( String cadena )
+    {
+        return buscarSinMayusculas( cadena ).size( );
+    }
+
+    @Override
+    public int eliminarSinMayusculas( String cadena )
+    {
+        List<String> encontradas = buscarSinMayusculas( cadena );
+        for( String encontrada : encontradas )
+        {
+            trie.eliminar( encontrada );
+        }
+        return encontradas.size( );
+    }
+
+    @Override
+    public int size( )
+    {
+        int hastaElLimite = hasta == null ? trie.getCantidad( ) : trie.contarMenores( hasta ) + ( hastaIncluida && trie.contiene( hasta ) ? 1 : 0 );
+        int antesDelLimite = desde == null ? 0 : trie.contarMenores( desde ) + ( !desdeIncluida && trie.contiene( desde ) ? 1 : 0 );
+        return Math.max( 0, hastaElLimite - antesDelLimite );
+    }
+
+    @Override
+    public boolean isEmpty( )
+    {
+        return buscarMenor( ) == null;
+    }
+
+    @Override
+    public boolean contains( Object o )
+    {
+        String cadena = ( String )o;
+        return estaEnRango( cadena ) && trie.contiene( cadena );
+    }
+
+    @Override
+    public boolean add( String cadena )
+    {
+        if( !estaEnRango( cadena ) )
+        {
+            throw new IllegalArgumentException( "La cadena está por fuera de los límites del conjunto: " + cadena );
+        }
+        return trie.agregar( cadena );
+    }
+
+    @Override
+    public boolean remove( Object o )
+    {
+        String cadena = ( String )o;
+        return estaEnRango( cadena ) && trie.eliminar( cadena );
+    }
+
+    @Override
+    public void clear( )
+    {
+        if( desde == null && hasta == null )
+        {
+            trie.limpiar( );
+        }
+        else
+        {
+            super.clear( );
+        }
+    }
+
+    @Override
+    public Comparator<? super String> comparator( )
+    {
+        return descendente ? Collections.reverseOrder( ) : null;
+    }
+
+    @Override
+    public String first( )
+    {
+        String primera = descendente ? buscarMayor( ) : buscarMenor( );
+        if( primera == null )
+        {
+            throw new NoSuchElementException( );
+        }
+        return primera;
+    }
+
+    @Override
+    public String last( )
+    {
+        String ultima = descendente ? buscarMenor( ) : buscarMayor( );
+        if( ultima == null )
+        {
+            throw new NoSuchElementException( );
+        }
+        return ultima;
+    }
+
+    @Override
+    public String ceiling( String cadena )
+    {
+        return descendente ? buscarPiso( cadena, true ) : buscarTecho( cadena, true );
+    }
+
+    @Override
+    public String higher( String cadena )
+    {
+        return descendente ? buscarPiso( cadena, false ) : buscarTecho( cadena, false );
+    }
+
+    @Override
+    public String floor( String cadena )
+    {
+        return descendente ? buscarTecho( cadena, true ) : buscarPiso( cadena, true );
+    }
+
+    @Override
+    public String lower( String cadena )
+    {
+        return descendente ? buscarTecho( cadena, false ) : buscarPiso( cadena, false );
+    }
+
+    @Override
+    public String pollFirst( )
+    {
+        String primera = descendente ? buscarMayor( ) : buscarMenor( );
+        if( primera != null )
+        {
+            trie.eliminar( primera );
+        }
+        return primera;
+    }
+
+    @Override
+    public String pollLast( )
+    {
+        String ultima = descendente ? buscarMenor( ) : buscarMayor( );
+        if( ultima != null )
+        {
+            trie.eliminar( ultima );
+        }
+        return ultima;
+    }
+
+    @Override
+    public Iterator<String> iterator( )
+    {
+        return new Iterador( !descendente );
+    }
+
+    @Override
+    public Iterator<String> descendingIterator( )
+    {
+        return new Iterador( descendente );
+    }
+
+    @Override
+    public NavigableSet<String> descendingSet( )
+    {
+        return new ConjuntoTrie( trie, desde, desdeIncluida, hasta, hastaIncluida, !descendente );
+    }
+
+    @Override
+    public NavigableSet<String> subSet( String desdeCadena, boolean desdeIncluido, String hastaCadena, boolean hastaIncluido )
+    {
+        return descendente ? acotar( hastaCadena, hastaIncluido, desdeCadena, desdeIncluido ) : acotar( desdeCadena, desdeIncluido, hastaCadena, hastaIncluido );
+    }
+
+    @Override
+    public NavigableSet<String> headSet( String hastaCadena, boolean incluida )
+    {
+        return descendente ? acotar( hastaCadena, incluida, null, false ) : acotar( null, false, hastaCadena, incluida );
+    }
+
+    @Override
+    public NavigableSet<String> tailSet( String desdeCadena, boolean incluida )
+    {
+        return descendente ? acotar( null, false, desdeCadena, incluida ) : acotar( desdeCadena, incluida, null, false );
+    }
+
+    @Override
+    public SortedSet<String> subSet( String desdeCadena, String hastaCadena )
+    {
+        return subSet( desdeCadena, true, hastaCadena, false );
+    }
+
+    @Override
+    public SortedSet<String> headSet( String hastaCadena )
+    {
+        return headSet( hastaCadena, false );
+    }
+
+    @Override
+    public SortedSet<String> tailSet( String desdeCadena )
+    {
+        return tailSet( desdeCadena, true );
+    }
+
+    /**
+     * Iterador sobre las cadenas de la vista. Avanza con un recorrido del trie, que sigue siendo válido aunque el conjunto cambie.
+     */
+    private class Iterador implements Iterator<String>
+    {
+        /**
+         * Indica si el iterador avanza de menor a mayor
+         */
+        private final boolean ascendente;
+
+        /**
+         * El recorrido del trie, ubicado sobre la cadena 'siguiente'
+         */
+        private TrieCadenas.Recorrido recorrido;
+
+        /**
+         * La cadena que se va a retornar en el siguiente llamado a next, o null si no hay más
+         */
+        private String siguiente;
+
+        /**
+         * La última cadena retornada por next, o null si ya se eliminó o no se ha llamado a next
+         */
+        private String ultima;
+
+        /**
+         * Crea un iterador que empieza en un extremo de la vista
+         * @param ascendente Indica si el iterador avanza de menor a mayor
+         */
+        Iterador( boolean ascendente )
+        {
+            this.ascendente = ascendente;
+            siguiente = ascendente ? buscarMenor( ) : buscarMayor( );
+            if( siguiente != null )
+            {
+                recorrido = trie.recorrer( siguiente, ascendente );
+            }
+        }
+
+        @Override
+        public boolean hasNext( )
+        {
+            return siguiente != null;
+        }
+
+        @Override
+        public String next( )
+        {
+            if( siguiente == null )
+            {
+                throw new NoSuchElementException( );
+            }
+            ultima = siguiente;
+            siguiente = recorrido.avanzar( );
+            if( siguiente != null && ( ascendente ? esMuyAlta( siguiente ) : esMuyBaja( siguiente ) ) )
+            {
+                siguiente = null;
+            }
+            return ultima;
+        }
+
+        @Override
+        public void remove( )
+        {
+            if( ultima == null )
+            {
+                throw new IllegalStateException( );
+            }
+            trie.eliminar( ultima );
+            ultima = null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Esta clase agrupa los movimientos de bloques que usa SandboxArreglos para abrir y cerrar espacios dentro de sus arreglos.
+ *
+ * Todos los movimientos se hacen con System.arraycopy, que la máquina virtual implementa como una copia de memoria por bloques en lugar de copiar los valores uno por uno.
+ */
+final class CopiasArreglos
+{
+    /**
+     * Esta clase sólo tiene métodos de clase, así que no debería instanciarse
+     */
+    private CopiasArreglos( )
+    {
+    }
+
+    /**
+     * Abre un espacio dentro de las primeras posiciones ocupadas de un arreglo, desplazando hacia la derecha los valores que están desde la posición indicada.
+     *
+     * Si el arreglo tiene capacidad suficiente, los valores se desplazan dentro del mismo arreglo. Si no, se reserva un arreglo nuevo y cada parte del arreglo original se
+     * copia una sola vez directamente a su posición final.
+     * @param arreglo El arreglo donde se abre el espacio
+     * @param cantidad La cantidad de posiciones ocupadas del arreglo
+     * @param posicion La posición donde empieza el espacio. Debe estar entre 0 y cantidad.
+     * @param espacio La cantidad de posiciones que se abren
+     * @param capacidadNueva La capacidad del arreglo nuevo, en caso de que haya que reservarlo. Debe ser al menos cantidad + espacio.
+     * @return El arreglo con el espacio abierto, que puede ser el mismo arreglo recibido o uno nuevo. Las posiciones del espacio conservan valores viejos o quedan en 0.
+     */
+    static int[] abrirEspacio( int[] arreglo, int cantidad, int posicion, int espacio, int capacidadNueva )
+    {
+        int[] respuesta = arreglo;
+        if( cantidad + espacio <= arreglo.length )
+        {
+            System.arraycopy( arreglo, posicion, arreglo, posicion + espacio, cantidad - posicion );
+        }
+        else
+        {
+            respuesta = new int[capacidadNueva];
+            System.arraycopy( arreglo, 0, respuesta, 0, posicion );
+            System.arraycopy( arreglo, posicion, respuesta, posicion + espacio, cantidad - posicion );
+        }
+        return respuesta;
+    }
+
+    /**
+     * Cierra un espacio dentro de las primeras posiciones ocupadas de un arreglo, desplazando hacia la izquierda los valores que están después del espacio.
+     * @param arreglo El arreglo donde se cierra el espacio
+     * @param cantidad La cantidad de posiciones ocupadas del arreglo
+     * @param posicion La posición donde empieza el espacio
+     * @param espacio La cantidad de posiciones que se cierran. posicion + espacio no puede ser mayor que cantidad.
+     */
+    static void cerrarEspacio( int[] arreglo, int cantidad, int posicion, int espacio )
+    {
+        System.arraycopy( arreglo, posicion + espacio, arreglo, posicion, cantidad - posicion - espacio );
+    }
+}
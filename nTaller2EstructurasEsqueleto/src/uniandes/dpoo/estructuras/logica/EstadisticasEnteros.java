@@ -0,0 +1,175 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Esta clase acumula estadísticas (cantidad, suma, mínimo, máximo y promedio) sobre una serie de enteros que cambia con el tiempo.
+ *
+ * La cantidad y la suma se actualizan en tiempo constante cada vez que se agrega o se retira un valor. El mínimo y el máximo también se actualizan en tiempo constante
+ * cuando se agregan valores; cuando se retira el valor que era el mínimo o el máximo, el rango deja de estar vigente y quien administra los valores debe recalcularlo.
+ */
+public class EstadisticasEnteros
+{
+    /**
+     * La cantidad de valores acumulados
+     */
+    private int cantidad;
+
+    /**
+     * La suma de los valores acumulados
+     */
+    private long suma;
+
+    /**
+     * El menor de los valores acumulados. Sólo es válido si hay valores y el rango está vigente.
+     */
+    private int minimo;
+
+    /**
+     * El mayor de los valores acumulados. Sólo es válido si hay valores y el rango está vigente.
+     */
+    private int maximo;
+
+    /**
+     * Indica si el mínimo y el máximo corresponden a los valores acumulados
+     */
+    private boolean rangoVigente;
+
+    /**
+     * Crea unas estadísticas sin valores
+     */
+    public EstadisticasEnteros( )
+    {
+        reiniciar( );
+    }
+
+    /**
+     * Crea una copia de otras estadísticas
+     * @param otras Las estadísticas que se van a copiar
+     */
+    EstadisticasEnteros( EstadisticasEnteros otras )
+    {
+        cantidad = otras.cantidad;
+        suma = otras.suma;
+        minimo = otras.minimo;
+        maximo = otras.maximo;
+        rangoVigente = otras.rangoVigente;
+    }
+
+    /**
+     * Elimina todos los valores acumulados
+     */
+    void reiniciar( )
+    {
+        cantidad = 0;
+        suma = 0;
+        minimo = 0;
+        maximo = 0;
+        rangoVigente = true;
+    }
+
+    /**
+     * Acumula un nuevo valor
+     * @param valor El valor que se agregó a la serie
+     */
+    void registrar( int valor )
+    {
+        if( cantidad == 0 )
+        {
+            minimo = valor;
+            maximo = valor;
+            rangoVigente = true;
+        }
+        else if( rangoVigente )
+        {
+            minimo = Math.min( minimo, valor );
+            maximo = Math.max( maximo, valor );
+        }
+        cantidad++;
+        suma += valor;
+    }
+
+    /**
+     * Retira un valor que había sido acumulado antes
+     * @param valor El valor que se eliminó de la serie
+     */
+    void retirar( int valor )
+    {
+        cantidad--;
+        suma -= valor;
+        if( cantidad == 0 )
+        {
+            reiniciar( );
+        }
+        else if( valor == minimo || valor == maximo )
+        {
+            rangoVigente = false;
+        }
+    }
+
+    /**
+     * Vuelve a calcular todas las estadísticas a partir de las primeras posiciones de un arreglo
+     * @param valores El arreglo con la serie de valores
+     * @param cantidadValores La cantidad de posiciones del arreglo que hacen parte de la serie
+     */
+    void recalcular( int[] valores, int cantidadValores )
+    {
+        reiniciar( );
+        for( int i = 0; i < cantidadValores; i++ )
+        {
+            registrar( valores[ i ] );
+        }
+    }
+
+    /**
+     * Indica si el mínimo y el máximo corresponden a los valores acumulados, o si es necesario recalcularlos
+     * @return True si el rango está vigente
+     */
+    boolean isRangoVigente( )
+    {
+        return rangoVigente;
+    }
+
+    /**
+     * Retorna la cantidad de valores acumulados
+     * @return La cantidad de valores
+     */
+    public int getCantidad( )
+    {
+        return cantidad;
+    }
+
+    /**
+     * Retorna la suma de los valores acumulados
+     * @return La suma de los valores
+     */
+    public long getSuma( )
+    {
+        return suma;
+    }
+
+    /**
+     * Retorna el menor de los valores acumulados
+     * @return El valor mínimo, o 0 si no hay valores
+     */
+    public int getMinimo( )
+    {
+        return minimo;
+    }
+
+    /**
+     * Retorna el mayor de los valores acumulados
+     * @return El valor máximo, o 0 si no hay valores
+     */
+    public int getMaximo( )
+    {
+        return maximo;
+    }
+
+    /**
+     * Retorna el promedio de los valores acumulados
+     * @return El promedio de los valores, o 0 si no hay valores
+     */
+    public double getPromedio( )
+    {
+        return cantidad == 0 ? 0 : ( double )suma / cantidad;
+    }
+}
@@ -0,0 +1,27 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Las diferentes formas en las que se pueden organizar los valores de los arreglos de SandboxArreglos.
+ */
+public enum EstrategiaOrdenamiento
+{
+    /**
+     * Ordenamiento en un solo hilo usando Arrays.sort
+     */
+    SECUENCIAL,
+
+    /**
+     * Ordenamiento en varios hilos usando Arrays.parallelSort
+     */
+    PARALELO,
+
+    /**
+     * Ordenamiento por residuos (radix sort) byte por byte. Sólo aplica para enteros: en los arreglos de cadenas se usa el ordenamiento secuencial.
+     */
+    RADIX,
+
+    /**
+     * Se usa el ordenamiento paralelo cuando el arreglo es suficientemente grande y hay más de un procesador disponible, y el secuencial en los demás casos
+     */
+    AUTOMATICA
+}
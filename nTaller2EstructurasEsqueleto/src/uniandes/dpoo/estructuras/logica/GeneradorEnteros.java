@@ -0,0 +1,225 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Esta clase genera series de enteros aleatorios distribuidos uniformemente en un rango, llenando directamente arreglos de tipo int.
+ *
+ * Los valores se generan con SplittableRandom, que no se sincroniza entre hilos. Cada serie se divide en bloques de TAMANO_BLOQUE posiciones y cada bloque usa su propia
+ * secuencia, obtenida dividiendo (split) la secuencia de la serie. Como la forma de dividir no depende de cuántos hilos se usen, una serie generada en paralelo es
+ * idéntica a la misma serie generada en un solo hilo. Si el generador se crea con una semilla, las series que produce se pueden reproducir.
+ */
+public class GeneradorEnteros
+{
+    /**
+     * La cantidad máxima de posiciones que se llenan con una misma secuencia de números aleatorios. También es el tamaño mínimo de las tareas paralelas.
+     */
+    private static final int TAMANO_BLOQUE = 1 << 14;
+
+    /**
+     * La secuencia de la que se obtiene una nueva secuencia para cada serie generada
+     */
+    private final SplittableRandom aleatorio;
+
+    /**
+     * Crea un generador con una semilla escogida al azar
+     */
+    public GeneradorEnteros( )
+    {
+        aleatorio = new SplittableRandom( );
+    }
+
+    /**
+     * Crea un generador que siempre produce las mismas series para la misma semilla y la misma secuencia de llamados
+     * @param semilla La semilla del generador
+     */
+    public GeneradorEnteros( long semilla )
+    {
+        aleatorio = new SplittableRandom( semilla );
+    }
+
+    /**
+     * Una tarea que llena un rango de posiciones de un arreglo, dividiéndolo igual que lo hace llenarBloques
+     */
+    private static final class TareaLlenar extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] destino;
+        private final int desde;
+        private final int hasta;
+        private final long minimo;
+        private final long limite;
+        private final SplittableRandom secuencia;
+
+        TareaLlenar( int[] destino, int desde, int hasta, long minimo, long limite, SplittableRandom secuencia )
+        {
+            this.destino = destino;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.minimo = minimo;
+            this.limite = limite;
+            this.secuencia = secuencia;
+        }
+
+        @Override
+        protected void compute( )
+        {
+            if( hasta - desde <= TAMANO_BLOQUE )
+            {
+                llenarBloque( destino, desde, hasta, minimo, limite, secuencia );
+            }
+            else
+            {
+                int mitad = ( desde + hasta ) >>> 1;
+                SplittableRandom secuenciaDerecha = secuencia.split( );
+                invokeAll( new TareaLlenar( destino, desde, mitad, minimo, limite, secuencia ), new TareaLlenar( destino, mitad, hasta, minimo, limite, secuenciaDerecha ) );
+            }
+        }
+    }
+
+    /**
+     * Llena un bloque de posiciones de un arreglo usando una sola secuencia
+     * @param destino El arreglo que se va a llenar
+     * @param desde La primera posición que se llena
+     * @param hasta La posición donde se deja de llenar
+     * @param minimo El menor valor que se puede generar
+     * @param limite El valor siguiente al mayor valor que se puede generar
+     * @param secuencia La secuencia de números aleatorios
+     */
+    private static void llenarBloque( int[] destino, int desde, int hasta, long minimo, long limite, SplittableRandom secuencia )
+    {
+        for( int i = desde; i < hasta; i++ )
+        {
+            destino[ i ] = ( int )secuencia.nextLong( minimo, limite );
+        }
+    }
+
+    /**
+     * Llena un rango de posiciones de un arreglo en un solo hilo, dividiéndolo en bloques de la misma forma en que lo hace TareaLlenar
+     * @param destino El arreglo que se va a llenar
+     * @param desde La primera posición que se llena
+     * @param hasta La posición donde se deja de llenar
+     * @param minimo El menor valor que se puede generar
+     * @param limite El valor siguiente al mayor valor que se puede generar
+     * @param secuencia La secuencia de números aleatorios del rango
+     */
+    private static void llenarBloques( int[] destino, int desde, int hasta, long minimo, long limite, SplittableRandom secuencia )
+    {
+        if( hasta - desde <= TAMANO_BLOQUE )
+        {
+            llenarBloque( destino, desde, hasta, minimo, limite, secuencia );
+        }
+        else
+        {
+            int mitad = ( desde + hasta ) >>> 1;
+            SplittableRandom secuenciaDerecha = secuencia.split( );
+            llenarBloques( destino, desde, mitad, minimo, limite, secuencia );
+            llenarBloques( destino, mitad, hasta, minimo, limite, secuenciaDerecha );
+        }
+    }
+
+    /**
+     * Llena un rango de posiciones de un arreglo con valores aleatorios entre minimo y maximo (ambos incluidos). Si minimo es mayor que maximo, se intercambian.
+     * @param destino El arreglo que se va a llenar
+     * @param desde La primera posición que se llena
+     * @param hasta La posición donde se deja de llenar
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param pool El pool de hilos donde se llena el arreglo en paralelo, o null para llenarlo en el hilo actual
+     */
+    public void llenar( int[] destino, int desde, int hasta, int minimo, int maximo, ForkJoinPool pool )
+    {
+        long menor = Math.min( minimo, maximo );
+        long limite = Math.max( minimo, maximo ) + 1L;
+        SplittableRandom secuencia;
+        synchronized( aleatorio )
+        {
+            secuencia = aleatorio.split( );
+        }
+        if( pool == null || hasta - desde <= TAMANO_BLOQUE )
+        {
+            llenarBloques( destino, desde, hasta, menor, limite, secuencia );
+        }
+        else
+        {
+            pool.invoke( new TareaLlenar( destino, desde, hasta, menor, limite, secuencia ) );
+        }
+    }
+
+    /**
+     * Genera un arreglo de valores aleatorios entre minimo y maximo (ambos incluidos)
+     * @param cantidad La cantidad de valores
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param pool El pool de hilos donde se generan los valores en paralelo, o null para generarlos en el hilo actual
+     * @return El arreglo con los valores generados
+     */
+    public int[] generar( int cantidad, int minimo, int maximo, ForkJoinPool pool )
+    {
+        int[] valores = new int[cantidad];
+        llenar( valores, 0, cantidad, minimo, maximo, pool );
+        return valores;
+    }
+
+    /**
+     * Genera un arreglo de valores aleatorios diferentes entre minimo y maximo (ambos incluidos), en orden aleatorio.
+     *
+     * Si la cantidad es a lo sumo la mitad del rango (o el rango no cabe en un arreglo), los valores se generan uno por uno y se descartan los que ya habían salido,
+     * usando un histograma como conjunto. Si no, se mezclan los valores del rango con el algoritmo de Fisher-Yates y se toman los primeros.
+     * @param cantidad La cantidad de valores
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @return El arreglo con los valores generados
+     * @throws IllegalArgumentException Si el rango tiene menos valores diferentes que la cantidad pedida
+     */
+    public int[] generarDistintos( int cantidad, int minimo, int maximo )
+    {
+        long menor = Math.min( minimo, maximo );
+        long rango = Math.max( minimo, maximo ) - menor + 1;
+        if( cantidad > rango )
+        {
+            throw new IllegalArgumentException( "El rango sólo tiene " + rango + " valores diferentes y se pidieron " + cantidad );
+        }
+        SplittableRandom secuencia;
+        synchronized( aleatorio )
+        {
+            secuencia = aleatorio.split( );
+        }
+        int[] valores = new int[cantidad];
+        if( 2L * cantidad <= rango || rango > Integer.MAX_VALUE )
+        {
+            HistogramaEnteros generados = new HistogramaEnteros( cantidad );
+            int i = 0;
+            while( i < cantidad )
+            {
+                int valor = ( int )secuencia.nextLong( menor, menor + rango );
+                if( generados.getConteo( valor ) == 0 )
+                {
+                    generados.registrar( valor );
+                    valores[ i ] = valor;
+                    i++;
+                }
+            }
+        }
+        else
+        {
+            int[] todos = new int[( int )rango];
+            for( int i = 0; i < todos.length; i++ )
+            {
+                todos[ i ] = ( int ) ( menor + i );
+            }
+            for( int i = 0; i < cantidad; i++ )
+            {
+                int j = i + secuencia.nextInt( todos.length - i );
+                int temporal = todos[ i ];
+                todos[ i ] = todos[ j ];
+                todos[ j ] = temporal;
+            }
+            System.arraycopy( todos, 0, valores, 0, cantidad );
+        }
+        return valores;
+    }
+}
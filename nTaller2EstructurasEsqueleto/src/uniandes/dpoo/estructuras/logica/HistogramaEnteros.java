@@ -0,0 +1,567 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Esta clase cuenta cuántas veces aparece cada valor dentro de una serie de enteros, sin convertir los enteros ni los conteos a objetos.
+ *
+ * Dependiendo de los valores contados, el histograma usa una de dos representaciones:
+ * <ul>
+ * <li>Un arreglo denso de conteos indexado por (valor - mínimo), cuando el rango de los valores es pequeño comparado con la cantidad de valores.</li>
+ * <li>Una tabla de hash con direccionamiento abierto (sondeo lineal) que guarda llaves y conteos en dos arreglos paralelos de enteros.</li>
+ * </ul>
+ */
+public class HistogramaEnteros
+{
+    /**
+     * Rango de valores que siempre se considera suficientemente pequeño para usar la representación densa
+     */
+    private static final int RANGO_DENSO_MINIMO = 1024;
+
+    /**
+     * Capacidad mínima de la tabla de hash
+     */
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    /**
+     * Indica si el histograma está usando la representación densa
+     */
+    private boolean denso;
+
+    /**
+     * En la representación densa, el valor que corresponde a la posición 0 de conteosDensos
+     */
+    private int minimo;
+
+    /**
+     * En la representación densa, la cantidad de veces que aparece cada valor entre minimo y minimo + conteosDensos.length - 1
+     */
+    private int[] conteosDensos;
+
+    /**
+     * En la tabla de hash, las llaves de cada casilla
+     */
+    private int[] llaves;
+
+    /**
+     * En la tabla de hash, el conteo de la llave guardada en cada casilla
+     */
+    private int[] conteos;
+
+    /**
+     * En la tabla de hash, indica cuáles casillas ya fueron usadas por alguna llave
+     */
+    private boolean[] ocupadas;
+
+    /**
+     * En la tabla de hash, la cantidad de casillas usadas
+     */
+    private int casillasOcupadas;
+
+    /**
+     * La cantidad de valores diferentes cuyo conteo es mayor a 0
+     */
+    private int cantidadLlaves;
+
+    /**
+     * Crea un histograma vacío que usa la tabla de hash y tiene espacio para la cantidad de llaves indicada sin tener que crecer
+     * @param llavesEsperadas La cantidad de valores diferentes que se espera contar
+     */
+    public HistogramaEnteros( int llavesEsperadas )
+    {
+        denso = false;
+        inicializarTabla( calcularCapacidad( llavesEsperadas ) );
+    }
+
+    /**
+     * Crea un histograma vacío que usa la representación densa para los valores entre minimo y maximo
+     * @param minimo El menor valor que se va a contar
+     * @param maximo El mayor valor que se va a contar
+     */
+    private HistogramaEnteros( int minimo, int maximo )
+    {
+        denso = true;
+        this.minimo = minimo;
+        conteosDensos = new int[maximo - minimo + 1];
+    }
+
+    /**
+     * Calcula el histograma de los valores que están entre las posiciones 'desde' (incluida) y 'hasta' (excluida) de un arreglo.
+     *
+     * El arreglo se recorre una vez para encontrar el rango de los valores y otra vez para contarlos.
+     * @param valores El arreglo con los valores
+     * @param desde La primera posición que se cuenta
+     * @param hasta La posición donde se deja de contar
+     * @return El histograma de los valores
+     */
+    public static HistogramaEnteros calcular( int[] valores, int desde, int hasta )
+    {
+        int cantidad = hasta - desde;
+        HistogramaEnteros histograma;
+        if( cantidad <= 0 )
+        {
+            histograma = new HistogramaEnteros( 0 );
+        }
+        else
+        {
+            int menor = valores[ desde ];
+            int mayor = valores[ desde ];
+            for( int i = desde + 1; i < hasta; i++ )
+            {
+                int valor = valores[ i ];
+                if( valor < menor )
+                {
+                    menor = valor;
+                }
+                else if( valor > mayor )
+                {
+                    mayor = valor;
+                }
+            }
+            long rango = ( long )mayor - menor + 1;
+            if( rango <= RANGO_DENSO_MINIMO || rango <= 2L * cantidad )
+            {
+                histograma = new HistogramaEnteros( menor, mayor );
+            }
+            else
+            {
+                histograma = new HistogramaEnteros( cantidad );
+            }
+        }
+        for( int i = desde; i < hasta; i++ )
+        {
+            histograma.registrar( valores[ i ] );
+        }
+        return histograma;
+    }
+
+    /**
+     * Calcula la capacidad de la tabla de hash necesaria para guardar una cantidad de llaves manteniendo la tabla a lo sumo medio llena
+     * @param llaves La cantidad de llaves
+     * @return Una potencia de 2 mayor o igual al doble de la cantidad de llaves
+     */
+    private static int calcularCapacidad( int llaves )
+    {
+        int capacidad = CAPACIDAD_MINIMA;
+        while( capacidad < 2L * llaves && capacidad < ( 1 << 30 ) )
+        {
+            capacidad <<= 1;
+        }
+        return capacidad;
+    }
+
+    /**
+     * Calcula la casilla inicial de una llave dentro de la tabla de hash
+     * @param llave La llave
+     * @param mascara La capacidad de la tabla menos 1
+     * @return La casilla donde se empieza a buscar la llave
+     */
+    private static int casillaInicial( int llave, int mascara )
+    {
+        int h = llave * 0x9E3779B9;
+        return ( h ^ ( h >>> 16 ) ) & mascara;
+    }
+
+    /**
+     * Reserva los arreglos de una tabla de hash vacía
+     * @param capacidad La cantidad de casillas de la tabla
+     */
+    private void inicializarTabla( int capacidad )
+    {
+        llaves = new int[capacidad];
+        conteos = new int[capacidad];
+        ocupadas = new boolean[capacidad];
+        casillasOcupadas = 0;
+    }
+
+    /**
+     * Busca la casilla de una llave dentro de la tabla de hash
+     * @param llave La llave buscada
+     * @return La casilla donde está la llave o, si no está, la casilla libre donde debería quedar
+     */
+    private int buscarCasilla( int llave )
+    {
+        int mascara = llaves.length - 1;
+        int casilla = casillaInicial( llave, mascara );
+        while( ocupadas[ casilla ] && llaves[ casilla ] != llave )
+        {
+            casilla = ( casilla + 1 ) & mascara;
+        }
+        return casilla;
+    }
+
+    /**
+     * Duplica la capacidad de la tabla de hash y vuelve a ubicar las llaves que tienen un conteo mayor a 0
+     */
+    private void crecerTabla( )
+    {
+        int[] llavesAnteriores = llaves;
+        int[] conteosAnteriores = conteos;
+        inicializarTabla( llavesAnteriores.length * 2 );
+        for( int i = 0; i < llavesAnteriores.length; i++ )
+        {
+            if( conteosAnteriores[ i ] > 0 )
+            {
+                int casilla = buscarCasilla( llavesAnteriores[ i ] );
+                ocupadas[ casilla ] = true;
+                llaves[ casilla ] = llavesAnteriores[ i ];
+                conteos[ casilla ] = conteosAnteriores[ i ];
+                casillasOcupadas++;
+            }
+        }
+    }
+
+    /**
+     * Pasa de la representación densa a la tabla de hash, para poder contar un valor que está por fuera del rango denso
+     */
+    private void convertirEnTabla( )
+    {
+        int[] conteosAnteriores = conteosDensos;
+        denso = false;
+        conteosDensos = null;
+        inicializarTabla( calcularCapacidad( cantidadLlaves + 1 ) );
+        for( int i = 0; i < conteosAnteriores.length; i++ )
+        {
+            if( conteosAnteriores[ i ] > 0 )
+            {
+                int casilla = buscarCasilla( minimo + i );
+                ocupadas[ casilla ] = true;
+                llaves[ casilla ] = minimo + i;
+                conteos[ casilla ] = conteosAnteriores[ i ];
+                casillasOcupadas++;
+            }
+        }
+    }
+
+    /**
+     * Indica si un valor cabe en el arreglo de la representación densa. La resta se hace con long para que no se desborde cuando los valores están muy lejos.
+     * @param valor El valor que se quiere revisar
+     * @return True si el valor está entre minimo y minimo + conteosDensos.length - 1
+     */
+    private boolean estaEnRangoDenso( int valor )
+    {
+        long desplazamiento = ( long )valor - minimo;
+        return desplazamiento >= 0 && desplazamiento < conteosDensos.length;
+    }
+
+    /**
+     * Cuenta una aparición más de un valor
+     * @param valor El valor que se cuenta
+     * @return La cantidad de veces que se ha contado el valor, incluyendo esta aparición
+     */
+    public int registrar( int valor )
+    {
+        return registrar( valor, 1 );
+    }
+
+    /**
+     * Suma al histograma los conteos de otro histograma, como si se hubieran contado en este histograma todos los valores que se contaron en el otro
+     * @param otro El histograma cuyos conteos se van a sumar. No se modifica.
+     */
+    public void sumar( HistogramaEnteros otro )
+    {
+        int[] valores = otro.getLlaves( );
+        int[] cantidades = otro.getConteos( );
+        for( int i = 0; i < valores.length; i++ )
+        {
+            registrar( valores[ i ], cantidades[ i ] );
+        }
+    }
+
+    /**
+     * Cuenta varias apariciones de un valor
+     * @param valor El valor que se cuenta
+     * @param veces La cantidad de apariciones que se cuentan. Debe ser mayor a 0.
+     * @return La cantidad de veces que se ha contado el valor, incluyendo estas apariciones
+     */
+    private int registrar( int valor, int veces )
+    {
+        if( denso && !estaEnRangoDenso( valor ) )
+        {
+            convertirEnTabla( );
+        }
+        int conteo;
+        if( denso )
+        {
+            conteo = conteosDensos[ valor - minimo ] += veces;
+        }
+        else
+        {
+            int casilla = buscarCasilla( valor );
+            if( !ocupadas[ casilla ] )
+            {
+                if( 2 * ( casillasOcupadas + 1 ) > llaves.length )
+                {
+                    crecerTabla( );
+                    casilla = buscarCasilla( valor );
+                }
+                ocupadas[ casilla ] = true;
+                llaves[ casilla ] = valor;
+                casillasOcupadas++;
+            }
+            conteo = conteos[ casilla ] += veces;
+        }
+        if( conteo == veces )
+        {
+            cantidadLlaves++;
+        }
+        return conteo;
+    }
+
+    /**
+     * Descuenta una aparición de un valor, si el valor tiene al menos una aparición contada
+     * @param valor El valor que se descuenta
+     * @return La cantidad de apariciones que le quedan al valor, o -1 si el valor no tenía apariciones (en ese caso el histograma no cambia)
+     */
+    public int descontar( int valor )
+    {
+        int conteo = -1;
+        if( denso )
+        {
+            if( estaEnRangoDenso( valor ) && conteosDensos[ valor - minimo ] > 0 )
+            {
+                conteo = --conteosDensos[ valor - minimo ];
+            }
+        }
+        else
+        {
+            int casilla = buscarCasilla( valor );
+            if( ocupadas[ casilla ] && conteos[ casilla ] > 0 )
+            {
+                conteo = --conteos[ casilla ];
+            }
+        }
+        if( conteo == 0 )
+        {
+            cantidadLlaves--;
+        }
+        return conteo;
+    }
+
+    /**
+     * Retorna la cantidad de veces que se ha contado un valor
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones del valor, o 0 si nunca se contó
+     */
+    public int getConteo( int valor )
+    {
+        int conteo = 0;
+        if( denso )
+        {
+            if( estaEnRangoDenso( valor ) )
+            {
+                conteo = conteosDensos[ valor - minimo ];
+            }
+        }
+        else
+        {
+            int casilla = buscarCasilla( valor );
+            if( ocupadas[ casilla ] )
+            {
+                conteo = conteos[ casilla ];
+            }
+        }
+        return conteo;
+    }
+
+    /**
+     * Retorna la cantidad de valores diferentes que aparecen en el histograma
+     * @return La cantidad de llaves con conteo mayor a 0
+     */
+    public int getCantidadLlaves( )
+    {
+        return cantidadLlaves;
+    }
+
+    /**
+     * Retorna los valores diferentes que aparecen en el histograma.
+     *
+     * En la representación densa los valores quedan ordenados de menor a mayor; en la tabla de hash no tienen un orden particular.
+     * @return Un arreglo con los valores. La posición i corresponde a la posición i del arreglo retornado por getConteos.
+     */
+    public int[] getLlaves( )
+    {
+        int[] respuesta = new int[cantidadLlaves];
+        int j = 0;
+        if( denso )
+        {
+            for( int i = 0; i < conteosDensos.length; i++ )
+            {
+                if( conteosDensos[ i ] > 0 )
+                {
+                    respuesta[ j++ ] = minimo + i;
+                }
+            }
+        }
+        else
+        {
+            for( int i = 0; i < llaves.length; i++ )
+            {
+                if( conteos[ i ] > 0 )
+                {
+                    respuesta[ j++ ] = llaves[ i ];
+                }
+            }
+        }
+        return respuesta;
+    }
+
+    /**
+     * Retorna la cantidad de apariciones de cada uno de los valores retornados por getLlaves, en el mismo orden
+     * @return Un arreglo con los conteos
+     */
+    public int[] getConteos( )
+    {
+        int[] origen = denso ? conteosDensos : conteos;
+        int[] respuesta = new int[cantidadLlaves];
+        int j = 0;
+        for( int i = 0; i < origen.length; i++ )
+        {
+            if( origen[ i ] > 0 )
+            {
+                respuesta[ j++ ] = origen[ i ];
+            }
+        }
+        return respuesta;
+    }
+
+    /**
+     * Cuenta cuántos valores diferentes aparecen más de una vez
+     * @return La cantidad de valores repetidos
+     */
+    public int contarRepetidos( )
+    {
+        int[] origen = denso ? conteosDensos : conteos;
+        int repetidos = 0;
+        for( int i = 0; i < origen.length; i++ )
+        {
+            if( origen[ i ] > 1 )
+            {
+                repetidos++;
+            }
+        }
+        return repetidos;
+    }
+
+    /**
+     * Codifica un valor y su conteo en un long, de forma que al comparar los long quede primero el de mayor conteo y, si los conteos son iguales, el de menor valor
+     * @param valor El valor
+     * @param conteo La cantidad de apariciones del valor
+     * @return La clave que representa al valor con su conteo
+     */
+    private static long codificarFrecuencia( int valor, int conteo )
+    {
+        return ( ( long )conteo << 32 ) | ( 0xFFFFFFFFL - ( ( valor ^ 0x80000000 ) & 0xFFFFFFFFL ) );
+    }
+
+    /**
+     * Recupera el valor que fue codificado con codificarFrecuencia
+     * @param clave La clave con el valor y su conteo
+     * @return El valor
+     */
+    private static int decodificarValor( long clave )
+    {
+        return ( int ) ( 0xFFFFFFFFL - ( clave & 0xFFFFFFFFL ) ) ^ 0x80000000;
+    }
+
+    /**
+     * Restablece la propiedad de montículo de mínimos de un arreglo bajando el elemento que está en una posición
+     * @param monticulo El arreglo que representa el montículo
+     * @param tamano La cantidad de elementos del montículo
+     * @param posicion La posición del elemento que se debe bajar
+     */
+    private static void bajar( long[] monticulo, int tamano, int posicion )
+    {
+        int actual = posicion;
+        boolean ubicado = false;
+        while( !ubicado )
+        {
+            int menor = actual;
+            int izquierdo = 2 * actual + 1;
+            int derecho = izquierdo + 1;
+            if( izquierdo < tamano && monticulo[ izquierdo ] < monticulo[ menor ] )
+            {
+                menor = izquierdo;
+            }
+            if( derecho < tamano && monticulo[ derecho ] < monticulo[ menor ] )
+            {
+                menor = derecho;
+            }
+            if( menor == actual )
+            {
+                ubicado = true;
+            }
+            else
+            {
+                long temporal = monticulo[ actual ];
+                monticulo[ actual ] = monticulo[ menor ];
+                monticulo[ menor ] = temporal;
+                actual = menor;
+            }
+        }
+    }
+
+    /**
+     * Busca los valores que más veces aparecen en el histograma.
+     *
+     * Los valores se seleccionan con un montículo de tamaño k, así que el costo es O(D log k) para D valores diferentes.
+     * @param k La cantidad máxima de valores que se deben retornar
+     * @return Los k valores más frecuentes, ordenados de mayor a menor cantidad de apariciones. Si dos valores aparecen la misma cantidad de veces, queda primero el menor.
+     */
+    public int[] getMasFrecuentes( int k )
+    {
+        int tamanoMaximo = Math.max( 0, Math.min( k, cantidadLlaves ) );
+        long[] monticulo = new long[tamanoMaximo];
+        int tamano = 0;
+        if( tamanoMaximo > 0 )
+        {
+            int[] valores = getLlaves( );
+            int[] cantidades = getConteos( );
+            for( int i = 0; i < valores.length; i++ )
+            {
+                long clave = codificarFrecuencia( valores[ i ], cantidades[ i ] );
+                if( tamano < tamanoMaximo )
+                {
+                    monticulo[ tamano ] = clave;
+                    tamano++;
+                    if( tamano == tamanoMaximo )
+                    {
+                        for( int p = tamano / 2 - 1; p >= 0; p-- )
+                        {
+                            bajar( monticulo, tamano, p );
+                        }
+                    }
+                }
+                else if( clave > monticulo[ 0 ] )
+                {
+                    monticulo[ 0 ] = clave;
+                    bajar( monticulo, tamano, 0 );
+                }
+            }
+        }
+        Arrays.sort( monticulo );
+        int[] respuesta = new int[tamanoMaximo];
+        for( int i = 0; i < tamanoMaximo; i++ )
+        {
+            respuesta[ i ] = decodificarValor( monticulo[ tamanoMaximo - 1 - i ] );
+        }
+        return respuesta;
+    }
+
+    /**
+     * Construye un mapa con el contenido del histograma, donde las llaves son los valores y los valores son la cantidad de veces que aparece cada uno
+     * @return Un mapa con el histograma
+     */
+    public HashMap<Integer, Integer> aMapa( )
+    {
+        HashMap<Integer, Integer> mapa = new HashMap<Integer, Integer>( Math.max( 16, ( int ) ( cantidadLlaves / 0.75f ) + 1 ) );
+        int[] valores = getLlaves( );
+        int[] cantidades = getConteos( );
+        for( int i = 0; i < valores.length; i++ )
+        {
+            mapa.put( valores[ i ], cantidades[ i ] );
+        }
+        return mapa;
+    }
+}
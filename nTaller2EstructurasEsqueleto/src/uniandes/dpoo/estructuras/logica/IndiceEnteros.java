@@ -0,0 +1,88 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+
+/**
+ * Esta clase es un índice secundario sobre un arreglo de enteros: guarda los valores del arreglo ordenados junto con la posición original de cada uno, de forma que se
+ * puedan contar y ubicar las apariciones de un valor usando búsqueda binaria.
+ *
+ * Cada entrada del índice es un long cuyos 32 bits altos son el valor y cuyos 32 bits bajos son la posición. Al ordenar estos long quedan ordenados por valor y, para un
+ * mismo valor, por posición.
+ *
+ * El índice es una foto del arreglo en el momento en que se construyó: quien lo usa debe descartarlo cuando el arreglo cambie.
+ */
+final class IndiceEnteros
+{
+    /**
+     * Las entradas del índice, ordenadas
+     */
+    private final long[] entradas;
+
+    /**
+     * Construye el índice de las primeras posiciones de un arreglo
+     * @param valores El arreglo de enteros
+     * @param cantidad La cantidad de posiciones del arreglo que se deben indexar
+     */
+    IndiceEnteros( int[] valores, int cantidad )
+    {
+        entradas = new long[cantidad];
+        for( int i = 0; i < cantidad; i++ )
+        {
+            entradas[ i ] = ( ( long )valores[ i ] << 32 ) | i;
+        }
+        Arrays.sort( entradas );
+    }
+
+    /**
+     * Busca la primera entrada del índice cuyo valor no es menor que el valor indicado
+     * @param valor El valor buscado
+     * @param estricto Si es true, busca la primera entrada cuyo valor es estrictamente mayor que el valor indicado
+     * @return La posición de la entrada dentro del índice, o la cantidad de entradas si no hay ninguna
+     */
+    private int buscarLimite( int valor, boolean estricto )
+    {
+        int inicio = 0;
+        int fin = entradas.length;
+        while( inicio < fin )
+        {
+            int medio = ( inicio + fin ) >>> 1;
+            int valorMedio = ( int ) ( entradas[ medio ] >> 32 );
+            if( valorMedio < valor || ( estricto && valorMedio == valor ) )
+            {
+                inicio = medio + 1;
+            }
+            else
+            {
+                fin = medio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor en el arreglo indexado
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones del valor
+     */
+    int contar( int valor )
+    {
+        return buscarLimite( valor, true ) - buscarLimite( valor, false );
+    }
+
+    /**
+     * Busca las posiciones del arreglo indexado donde aparece un valor
+     * @param valor El valor buscado
+     * @return Las posiciones donde aparece el valor, de menor a mayor. Si el valor no aparece, el arreglo retornado es de tamaño 0.
+     */
+    int[] buscar( int valor )
+    {
+        int primera = buscarLimite( valor, false );
+        int ultima = buscarLimite( valor, true );
+        int[] posiciones = new int[ultima - primera];
+        for( int i = primera; i < ultima; i++ )
+        {
+            posiciones[ i - primera ] = ( int )entradas[ i ];
+        }
+        return posiciones;
+    }
+}
@@ -0,0 +1,131 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Esta clase tiene los recorridos sobre arreglos de enteros que más se usan en SandboxArreglos y ListaEnteros: contar, buscar, volver positivos y comparar.
+ *
+ * Los recorridos están escritos para que el compilador JIT de la máquina virtual los pueda vectorizar automáticamente (procesar varias posiciones con una sola
+ * instrucción SIMD): son ciclos contados, sin salidas anticipadas dentro del ciclo principal y sin saltos que dependan de los valores. Cuando el procesador no tiene
+ * instrucciones vectoriales, los mismos ciclos se ejecutan de forma escalar con el mismo resultado.
+ */
+final class KernelesEnteros
+{
+    /**
+     * La cantidad de posiciones que se comparan en cada bloque de primeraDiferencia antes de revisar si hubo alguna diferencia
+     */
+    private static final int TAMANO_BLOQUE = 64;
+
+    /**
+     * Esta clase sólo tiene métodos de clase, así que no debería instanciarse
+     */
+    private KernelesEnteros( )
+    {
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor entre las posiciones 'desde' (incluida) y 'hasta' (excluida) de un arreglo
+     * @param valores El arreglo de enteros
+     * @param desde La primera posición que se revisa
+     * @param hasta La posición donde se deja de revisar
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones del valor
+     */
+    static int contar( int[] valores, int desde, int hasta, int valor )
+    {
+        int conteo = 0;
+        for( int i = desde; i < hasta; i++ )
+        {
+            conteo += valores[ i ] == valor ? 1 : 0;
+        }
+        return conteo;
+    }
+
+    /**
+     * Retorna las posiciones en las que aparece un valor entre las posiciones 'desde' (incluida) y 'hasta' (excluida) de un arreglo.
+     *
+     * Primero se cuentan las apariciones con el recorrido vectorizable y sólo si hay alguna se hace un segundo recorrido para guardar las posiciones.
+     * @param valores El arreglo de enteros
+     * @param desde La primera posición que se revisa
+     * @param hasta La posición donde se deja de revisar
+     * @param valor El valor buscado
+     * @return Un arreglo con las posiciones del valor, de menor a mayor. Si el valor no aparece, el arreglo es de tamaño 0.
+     */
+    static int[] buscar( int[] valores, int desde, int hasta, int valor )
+    {
+        int[] posiciones = new int[contar( valores, desde, hasta, valor )];
+        for( int i = desde, j = 0; j < posiciones.length; i++ )
+        {
+            if( valores[ i ] == valor )
+            {
+                posiciones[ j++ ] = i;
+            }
+        }
+        return posiciones;
+    }
+
+    /**
+     * Indica si hay algún valor negativo entre las posiciones 'desde' (incluida) y 'hasta' (excluida) de un arreglo. Como los negativos son los únicos valores con el
+     * bit de signo encendido, basta con acumular un OR de todos los valores.
+     * @param valores El arreglo de enteros
+     * @param desde La primera posición que se revisa
+     * @param hasta La posición donde se deja de revisar
+     * @return True si hay al menos un valor negativo
+     */
+    static boolean hayNegativos( int[] valores, int desde, int hasta )
+    {
+        int acumulado = 0;
+        for( int i = desde; i < hasta; i++ )
+        {
+            acumulado |= valores[ i ];
+        }
+        return acumulado < 0;
+    }
+
+    /**
+     * Reemplaza cada valor entre las posiciones 'desde' (incluida) y 'hasta' (excluida) de un arreglo por su valor absoluto.
+     *
+     * Igual que multiplicar por -1, Integer.MIN_VALUE se queda igual porque su valor absoluto no se puede representar como int.
+     * @param valores El arreglo de enteros
+     * @param desde La primera posición que se modifica
+     * @param hasta La posición donde se deja de modificar
+     */
+    static void volverPositivos( int[] valores, int desde, int hasta )
+    {
+        for( int i = desde; i < hasta; i++ )
+        {
+            valores[ i ] = Math.abs( valores[ i ] );
+        }
+    }
+
+    /**
+     * Busca la primera posición en la que difieren las primeras posiciones de dos arreglos.
+     *
+     * Los arreglos se comparan por bloques: dentro de cada bloque se acumula un OR de las diferencias (XOR) sin salir del ciclo, y sólo cuando un bloque tiene alguna
+     * diferencia se recorre otra vez para ubicarla.
+     * @param a El primer arreglo
+     * @param b El segundo arreglo
+     * @param cantidad La cantidad de posiciones que se comparan. Ninguno de los dos arreglos puede ser más corto.
+     * @return La primera posición en la que los arreglos tienen valores diferentes, o -1 si las posiciones comparadas son iguales
+     */
+    static int primeraDiferencia( int[] a, int[] b, int cantidad )
+    {
+        int diferencia = -1;
+        for( int inicio = 0; inicio < cantidad && diferencia == -1; inicio += TAMANO_BLOQUE )
+        {
+            int fin = Math.min( inicio + TAMANO_BLOQUE, cantidad );
+            int acumulado = 0;
+            for( int i = inicio; i < fin; i++ )
+            {
+                acumulado |= a[ i ] ^ b[ i ];
+            }
+            if( acumulado != 0 )
+            {
+                diferencia = inicio;
+                while( a[ diferencia ] == b[ diferencia ] )
+                {
+                    diferencia++;
+                }
+            }
+        }
+        return diferencia;
+    }
+}
@@ -0,0 +1,373 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Esta clase es una lista de enteros que guarda los valores en un arreglo de tipo int, en lugar de guardar un objeto Integer por cada valor.
+ *
+ * Además de los métodos de la interfaz List&lt;Integer&gt; (que convierten los valores a Integer cuando es necesario), la clase ofrece métodos equivalentes que trabajan
+ * directamente con valores de tipo int.
+ *
+ * El arreglo crece de forma geométrica, así que agregar valores al final toma tiempo constante amortizado.
+ */
+public class ListaEnteros extends AbstractList<Integer> implements RandomAccess
+{
+    /**
+     * Capacidad mínima que se reserva la primera vez que el arreglo tiene que crecer
+     */
+    private static final int CAPACIDAD_MINIMA = 10;
+
+    /**
+     * El arreglo donde se guardan los valores. Sólo las primeras 'cantidad' posiciones hacen parte de la lista.
+     */
+    private int[] valores;
+
+    /**
+     * La cantidad de valores en la lista
+     */
+    private int cantidad;
+
+    /**
+     * El arreglo que se compartió la última vez que se llamó a getVista, o null si no se ha compartido. Mientras 'valores' sea este mismo arreglo, hay que copiarlo antes
+     * de cambiar alguna de sus posiciones ocupadas.
+     */
+    private int[] valoresCompartidos;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaEnteros( )
+    {
+        this( 0 );
+    }
+
+    /**
+     * Crea una lista vacía con espacio para la cantidad de valores indicada
+     * @param capacidad La cantidad de valores que puede almacenar la lista sin tener que crecer
+     */
+    public ListaEnteros( int capacidad )
+    {
+        valores = new int[capacidad];
+        cantidad = 0;
+    }
+
+    /**
+     * Crea una lista con los valores de un arreglo, usando el mismo arreglo para guardarlos (sin copiarlo). Quien crea la lista no debe volver a modificar el arreglo.
+     * @param valores El arreglo con los valores de la lista
+     */
+    ListaEnteros( int[] valores )
+    {
+        this.valores = valores;
+        cantidad = valores.length;
+    }
+
+    /**
+     * Revisa que una posición corresponda a un valor de la lista
+     * @param posicion La posición que se va a revisar
+     * @throws IndexOutOfBoundsException Si la posición no corresponde a ningún valor de la lista
+     */
+    private void verificarPosicion( int posicion )
+    {
+        if( posicion < 0 || posicion >= cantidad )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", cantidad: " + cantidad );
+        }
+    }
+
+    /**
+     * Garantiza que se pueden cambiar las posiciones ocupadas del arreglo sin afectar las vistas retornadas por getVista. Si el arreglo está compartido con alguna vista, se
+     * reemplaza por una copia.
+     */
+    private void prepararModificacion( )
+    {
+        if( valores == valoresCompartidos )
+        {
+            valores = Arrays.copyOf( valores, valores.length );
+            valoresCompartidos = null;
+        }
+    }
+
+    /**
+     * Garantiza que la lista tenga espacio para al menos la cantidad de valores indicada, sin tener que volver a crecer
+     * @param capacidad La cantidad de valores que debe poder almacenar la lista
+     */
+    public void asegurarCapacidad( int capacidad )
+    {
+        if( capacidad > valores.length )
+        {
+            int nuevaCapacidad = Math.max( valores.length * 2, CAPACIDAD_MINIMA );
+            if( nuevaCapacidad < capacidad || nuevaCapacidad < 0 )
+            {
+                nuevaCapacidad = capacidad;
+            }
+            valores = Arrays.copyOf( valores, nuevaCapacidad );
+        }
+    }
+
+    /**
+     * Retorna el valor que está en una posición de la lista
+     * @param posicion La posición del valor
+     * @return El valor en la posición
+     */
+    public int getValor( int posicion )
+    {
+        verificarPosicion( posicion );
+        return valores[ posicion ];
+    }
+
+    /**
+     * Cambia el valor que está en una posición de la lista
+     * @param posicion La posición del valor
+     * @param valor El nuevo valor
+     * @return El valor que estaba antes en la posición
+     */
+    public int setValor( int posicion, int valor )
+    {
+        verificarPosicion( posicion );
+        prepararModificacion( );
+        int anterior = valores[ posicion ];
+        valores[ posicion ] = valor;
+        return anterior;
+    }
+
+    /**
+     * Agrega un valor al final de la lista
+     * @param valor El valor que se va a agregar
+     */
+    public void agregar( int valor )
+    {
+        asegurarCapacidad( cantidad + 1 );
+        valores[ cantidad ] = valor;
+        cantidad++;
+        modCount++;
+    }
+
+    /**
+     * Inserta un valor en una posición de la lista, desplazando los valores siguientes
+     * @param posicion La posición donde debe quedar el nuevo valor. Debe estar entre 0 y el tamaño de la lista.
+     * @param valor El valor que se va a insertar
+     */
+    public void insertar( int posicion, int valor )
+    {
+        if( posicion < 0 || posicion > cantidad )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", cantidad: " + cantidad );
+        }
+        asegurarCapacidad( cantidad + 1 );
+        prepararModificacion( );
+        System.arraycopy( valores, posicion, valores, posicion + 1, cantidad - posicion );
+        valores[ posicion ] = valor;
+        cantidad++;
+        modCount++;
+    }
+
+    /**
+     * Elimina el valor que está en una posición de la lista, desplazando los valores siguientes
+     * @param posicion La posición del valor que se va a eliminar
+     * @return El valor eliminado
+     */
+    public int eliminarEn( int posicion )
+    {
+        verificarPosicion( posicion );
+        prepararModificacion( );
+        int eliminado = valores[ posicion ];
+        System.arraycopy( valores, posicion + 1, valores, posicion, cantidad - posicion - 1 );
+        cantidad--;
+        modCount++;
+        return eliminado;
+    }
+
+    /**
+     * Elimina todos los valores de la lista que cumplen un criterio, conservando el orden de los demás.
+     *
+     * La lista se recorre una sola vez: cada valor que se conserva se copia a la siguiente posición libre, así que el costo es lineal sin importar cuántos valores se eliminen.
+     * @param criterio El criterio que indica cuáles valores se deben eliminar
+     * @return La cantidad de valores eliminados
+     */
+    public int eliminarSi( IntPredicate criterio )
+    {
+        prepararModificacion( );
+        int conservados = 0;
+        for( int i = 0; i < cantidad; i++ )
+        {
+            int valor = valores[ i ];
+            if( !criterio.test( valor ) )
+            {
+                valores[ conservados ] = valor;
+                conservados++;
+            }
+        }
+        int eliminados = cantidad - conservados;
+        if( eliminados > 0 )
+        {
+            cantidad = conservados;
+            modCount++;
+        }
+        return eliminados;
+    }
+
+    /**
+     * Reemplaza cada valor de la lista por el resultado de aplicarle una operación. Los valores se modifican en su posición, sin desplazar ningún otro valor.
+     * @param operacion La operación que calcula el nuevo valor a partir del valor actual
+     * @param paralelo Indica si las posiciones se deben procesar en paralelo. En ese caso la operación no debe depender del orden en el que se aplica.
+     */
+    public void transformar( IntUnaryOperator operacion, boolean paralelo )
+    {
+        prepararModificacion( );
+        if( paralelo )
+        {
+            int[] arreglo = valores;
+            IntStream.range( 0, cantidad ).parallel( ).forEach( i -> arreglo[ i ] = operacion.applyAsInt( arreglo[ i ] ) );
+        }
+        else
+        {
+            for( int i = 0; i < cantidad; i++ )
+            {
+                valores[ i ] = operacion.applyAsInt( valores[ i ] );
+            }
+        }
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor en la lista
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones del valor
+     */
+    public int contarApariciones( int valor )
+    {
+        return KernelesEnteros.contar( valores, 0, cantidad, valor );
+    }
+
+    /**
+     * Compara la lista con un arreglo
+     * @param otroArreglo El arreglo con el que se compara la lista
+     * @return True si el arreglo tiene el mismo tamaño que la lista y los mismos valores en el mismo orden
+     */
+    public boolean esIgualA( int[] otroArreglo )
+    {
+        return otroArreglo.length == cantidad && KernelesEnteros.primeraDiferencia( valores, otroArreglo, cantidad ) == -1;
+    }
+
+    /**
+     * Calcula el histograma de los valores de la lista en un solo recorrido
+     * @return El histograma de los valores de la lista
+     */
+    public HistogramaEnteros calcularHistograma( )
+    {
+        return HistogramaEnteros.calcular( valores, 0, cantidad );
+    }
+
+    /**
+     * Ordena los valores de la lista de menor a mayor
+     */
+    public void ordenar( )
+    {
+        prepararModificacion( );
+        Arrays.sort( valores, 0, cantidad );
+        modCount++;
+    }
+
+    /**
+     * Invierte el orden de los valores de la lista
+     */
+    public void invertir( )
+    {
+        prepararModificacion( );
+        for( int i = 0, j = cantidad - 1; i < j; i++, j-- )
+        {
+            int temporal = valores[ i ];
+            valores[ i ] = valores[ j ];
+            valores[ j ] = temporal;
+        }
+        modCount++;
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de los valores actuales de la lista, sin copiarlos ni convertirlos a Integer.
+     *
+     * La vista comparte la memoria de la lista hasta que la lista se modifique: en ese momento los valores se copian (una sola vez), así que la vista sigue mostrando los
+     * valores que había cuando se pidió. Agregar valores al final no obliga a copiarlos: la capacidad de la vista es la cantidad de valores que había, así que no se
+     * puede llegar a las posiciones que se llenen después.
+     * @return Un buffer de sólo lectura con los valores de la lista, cuya capacidad es igual al tamaño de la lista
+     */
+    public IntBuffer getVista( )
+    {
+        valoresCompartidos = valores;
+        return IntBuffer.wrap( valores, 0, cantidad ).slice( ).asReadOnlyBuffer( );
+    }
+
+    /**
+     * Retorna un arreglo con una copia de los valores de la lista
+     * @return Un arreglo del mismo tamaño que la lista con sus valores
+     */
+    public int[] aArreglo( )
+    {
+        return Arrays.copyOf( valores, cantidad );
+    }
+
+    @Override
+    public int size( )
+    {
+        return cantidad;
+    }
+
+    @Override
+    public Integer get( int index )
+    {
+        return getValor( index );
+    }
+
+    @Override
+    public Integer set( int index, Integer element )
+    {
+        return setValor( index, element );
+    }
+
+    @Override
+    public void add( int index, Integer element )
+    {
+        insertar( index, element );
+    }
+
+    @Override
+    public Integer remove( int index )
+    {
+        return eliminarEn( index );
+    }
+
+    @Override
+    public void clear( )
+    {
+        if( valores == valoresCompartidos )
+        {
+            valores = new int[valores.length];
+            valoresCompartidos = null;
+        }
+        cantidad = 0;
+        modCount++;
+    }
+
+    @Override
+    public int indexOf( Object o )
+    {
+        int posicion = -1;
+        if( o instanceof Integer )
+        {
+            int valor = ( Integer )o;
+            for( int i = 0; i < cantidad && posicion == -1; i++ )
+            {
+                if( valores[ i ] == valor )
+                {
+                    posicion = i;
+                }
+            }
+        }
+        return posicion;
+    }
+}
@@ -0,0 +1,189 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Esta clase implementa las versiones paralelas de las operaciones masivas de SandboxArreglos usando el modelo fork/join.
+ *
+ * Cada operación divide el rango de posiciones por la mitad hasta que los pedazos tienen a lo sumo 'umbral' posiciones. Cada pedazo se procesa con el mismo recorrido
+ * que usa la versión secuencial y después los resultados parciales se combinan de izquierda a derecha, así que el resultado es el mismo que el de la versión secuencial.
+ */
+final class OperacionesParalelas
+{
+    /**
+     * Calcula el resultado parcial de una operación sobre un rango de posiciones
+     * @param <T> El tipo del resultado parcial
+     */
+    private interface OperacionRango<T>
+    {
+        /**
+         * Calcula el resultado parcial de las posiciones entre 'desde' (incluida) y 'hasta' (excluida)
+         * @param desde La primera posición del rango
+         * @param hasta La posición donde termina el rango
+         * @return El resultado parcial
+         */
+        T calcular( int desde, int hasta );
+    }
+
+    /**
+     * Una tarea que calcula el resultado de una operación sobre un rango de posiciones, dividiéndolo en dos tareas más pequeñas si es muy grande
+     * @param <T> El tipo del resultado
+     */
+    private static final class TareaRango<T> extends RecursiveTask<T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int desde;
+        private final int hasta;
+        private final int umbral;
+        private final OperacionRango<T> operacion;
+        private final BinaryOperator<T> combinacion;
+
+        TareaRango( int desde, int hasta, int umbral, OperacionRango<T> operacion, BinaryOperator<T> combinacion )
+        {
+            this.desde = desde;
+            this.hasta = hasta;
+            this.umbral = umbral;
+            this.operacion = operacion;
+            this.combinacion = combinacion;
+        }
+
+        @Override
+        protected T compute( )
+        {
+            T resultado;
+            if( hasta - desde <= umbral )
+            {
+                resultado = operacion.calcular( desde, hasta );
+            }
+            else
+            {
+                int mitad = ( desde + hasta ) >>> 1;
+                TareaRango<T> izquierda = new TareaRango<T>( desde, mitad, umbral, operacion, combinacion );
+                TareaRango<T> derecha = new TareaRango<T>( mitad, hasta, umbral, operacion, combinacion );
+                izquierda.fork( );
+                T resultadoDerecha = derecha.compute( );
+                resultado = combinacion.apply( izquierda.join( ), resultadoDerecha );
+            }
+            return resultado;
+        }
+    }
+
+    /**
+     * Esta clase sólo tiene métodos de clase, así que no debería instanciarse
+     */
+    private OperacionesParalelas( )
+    {
+    }
+
+    /**
+     * Ejecuta una operación sobre las posiciones entre 0 y cantidad, dividiéndola en tareas que se ejecutan en el pool indicado
+     * @param pool El pool de hilos donde se ejecutan las tareas
+     * @param umbral La cantidad máxima de posiciones que procesa cada tarea sin dividirse
+     * @param cantidad La cantidad de posiciones
+     * @param operacion La operación que calcula el resultado de cada rango
+     * @param combinacion La función que combina el resultado de un rango con el del rango que está justo a su derecha
+     * @return El resultado de la operación sobre todas las posiciones
+     */
+    private static <T> T ejecutar( ForkJoinPool pool, int umbral, int cantidad, OperacionRango<T> operacion, BinaryOperator<T> combinacion )
+    {
+        return pool.invoke( new TareaRango<T>( 0, cantidad, Math.max( 1, umbral ), operacion, combinacion ) );
+    }
+
+    /**
+     * Cuenta en paralelo cuántas veces aparece un valor en las primeras posiciones de un arreglo
+     * @param pool El pool de hilos donde se ejecutan las tareas
+     * @param umbral La cantidad máxima de posiciones que procesa cada tarea
+     * @param valores El arreglo de enteros
+     * @param cantidad La cantidad de posiciones que se revisan
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones del valor
+     */
+    static int contar( ForkJoinPool pool, int umbral, int[] valores, int cantidad, int valor )
+    {
+        return ejecutar( pool, umbral, cantidad, ( desde, hasta ) -> KernelesEnteros.contar( valores, desde, hasta, valor ), Integer::sum );
+    }
+
+    /**
+     * Busca en paralelo las posiciones en las que aparece un valor en las primeras posiciones de un arreglo
+     * @param pool El pool de hilos donde se ejecutan las tareas
+     * @param umbral La cantidad máxima de posiciones que procesa cada tarea
+     * @param valores El arreglo de enteros
+     * @param cantidad La cantidad de posiciones que se revisan
+     * @param valor El valor buscado
+     * @return Las posiciones del valor, de menor a mayor
+     */
+    static int[] buscar( ForkJoinPool pool, int umbral, int[] valores, int cantidad, int valor )
+    {
+        return ejecutar( pool, umbral, cantidad, ( desde, hasta ) -> KernelesEnteros.buscar( valores, desde, hasta, valor ), OperacionesParalelas::concatenar );
+    }
+
+    /**
+     * Une dos arreglos de posiciones, dejando primero las del primer arreglo
+     * @param primeras Las posiciones del rango de la izquierda
+     * @param ultimas Las posiciones del rango de la derecha
+     * @return Un arreglo con todas las posiciones, en orden
+     */
+    private static int[] concatenar( int[] primeras, int[] ultimas )
+    {
+        int[] respuesta = primeras;
+        if( primeras.length == 0 )
+        {
+            respuesta = ultimas;
+        }
+        else if( ultimas.length > 0 )
+        {
+            respuesta = new int[primeras.length + ultimas.length];
+            System.arraycopy( primeras, 0, respuesta, 0, primeras.length );
+            System.arraycopy( ultimas, 0, respuesta, primeras.length, ultimas.length );
+        }
+        return respuesta;
+    }
+
+    /**
+     * Calcula en paralelo el histograma de las primeras posiciones de un arreglo. Cada tarea calcula el histograma de su rango y después se suman.
+     * @param pool El pool de hilos donde se ejecutan las tareas
+     * @param umbral La cantidad máxima de posiciones que procesa cada tarea
+     * @param valores El arreglo de enteros
+     * @param cantidad La cantidad de posiciones que se cuentan
+     * @return El histograma de los valores
+     */
+    static HistogramaEnteros calcularHistograma( ForkJoinPool pool, int umbral, int[] valores, int cantidad )
+    {
+        return ejecutar( pool, umbral, cantidad, ( desde, hasta ) -> HistogramaEnteros.calcular( valores, desde, hasta ), ( izquierdo, derecho ) -> {
+            HistogramaEnteros mayor = izquierdo.getCantidadLlaves( ) >= derecho.getCantidadLlaves( ) ? izquierdo : derecho;
+            mayor.sumar( mayor == izquierdo ? derecho : izquierdo );
+            return mayor;
+        } );
+    }
+
+    /**
+     * Revisa en paralelo si hay algún valor negativo en las primeras posiciones de un arreglo
+     * @param pool El pool de hilos donde se ejecutan las tareas
+     * @param umbral La cantidad máxima de posiciones que procesa cada tarea
+     * @param valores El arreglo de enteros
+     * @param cantidad La cantidad de posiciones que se revisan
+     * @return True si hay algún valor negativo
+     */
+    static boolean hayNegativos( ForkJoinPool pool, int umbral, int[] valores, int cantidad )
+    {
+        return ejecutar( pool, umbral, cantidad, ( desde, hasta ) -> KernelesEnteros.hayNegativos( valores, desde, hasta ), Boolean::logicalOr );
+    }
+
+    /**
+     * Reemplaza en paralelo los valores de las primeras posiciones de un arreglo por su valor absoluto
+     * @param pool El pool de hilos donde se ejecutan las tareas
+     * @param umbral La cantidad máxima de posiciones que procesa cada tarea
+     * @param valores El arreglo de enteros
+     * @param cantidad La cantidad de posiciones que se modifican
+     */
+    static void volverPositivos( ForkJoinPool pool, int umbral, int[] valores, int cantidad )
+    {
+        ejecutar( pool, umbral, cantidad, ( desde, hasta ) -> {
+            KernelesEnteros.volverPositivos( valores, desde, hasta );
+            return Boolean.TRUE;
+        }, Boolean::logicalAnd );
+    }
+}
@@ -0,0 +1,148 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+
+/**
+ * Esta clase implementa las estrategias de ordenamiento que usa SandboxArreglos para organizar sus arreglos.
+ */
+final class Ordenamientos
+{
+    /**
+     * Cantidad mínima de valores a partir de la cual la estrategia automática usa el ordenamiento paralelo
+     */
+    static final int UMBRAL_PARALELO = 1 << 16;
+
+    /**
+     * Esta clase sólo tiene métodos de clase, así que no debería instanciarse
+     */
+    private Ordenamientos( )
+    {
+    }
+
+    /**
+     * Determina cuál estrategia concreta se debe usar para ordenar una cantidad de valores
+     * @param estrategia La estrategia solicitada
+     * @param cantidad La cantidad de valores que se van a ordenar
+     * @param radixDisponible Indica si el tipo de los valores permite usar el ordenamiento por residuos
+     * @return La estrategia que se va a usar. Nunca es AUTOMATICA.
+     */
+    static EstrategiaOrdenamiento resolver( EstrategiaOrdenamiento estrategia, int cantidad, boolean radixDisponible )
+    {
+        EstrategiaOrdenamiento respuesta = estrategia;
+        if( estrategia == EstrategiaOrdenamiento.AUTOMATICA )
+        {
+            boolean variosProcesadores = Runtime.getRuntime( ).availableProcessors( ) > 1;
+            respuesta = ( cantidad >= UMBRAL_PARALELO && variosProcesadores ) ? EstrategiaOrdenamiento.PARALELO : EstrategiaOrdenamiento.SECUENCIAL;
+        }
+        else if( estrategia == EstrategiaOrdenamiento.RADIX && !radixDisponible )
+        {
+            respuesta = EstrategiaOrdenamiento.SECUENCIAL;
+        }
+        return respuesta;
+    }
+
+    /**
+     * Ordena de menor a mayor las posiciones entre 'desde' (incluida) y 'hasta' (excluida) de un arreglo de enteros
+     * @param arreglo El arreglo que se va a ordenar
+     * @param desde La primera posición que se ordena
+     * @param hasta La posición donde termina el rango que se ordena
+     * @param estrategia La estrategia solicitada
+     * @return La estrategia que realmente se usó
+     */
+    static EstrategiaOrdenamiento ordenar( int[] arreglo, int desde, int hasta, EstrategiaOrdenamiento estrategia )
+    {
+        EstrategiaOrdenamiento usada = resolver( estrategia, hasta - desde, true );
+        if( usada == EstrategiaOrdenamiento.PARALELO )
+        {
+            Arrays.parallelSort( arreglo, desde, hasta );
+        }
+        else if( usada == EstrategiaOrdenamiento.RADIX )
+        {
+            ordenarRadix( arreglo, desde, hasta );
+        }
+        else
+        {
+            Arrays.sort( arreglo, desde, hasta );
+        }
+        return usada;
+    }
+
+    /**
+     * Ordena lexicográficamente las posiciones entre 'desde' (incluida) y 'hasta' (excluida) de un arreglo de cadenas
+     * @param arreglo El arreglo que se va a ordenar
+     * @param desde La primera posición que se ordena
+     * @param hasta La posición donde termina el rango que se ordena
+     * @param estrategia La estrategia solicitada
+     * @return La estrategia que realmente se usó
+     */
+    static EstrategiaOrdenamiento ordenar( String[] arreglo, int desde, int hasta, EstrategiaOrdenamiento estrategia )
+    {
+        EstrategiaOrdenamiento usada = resolver( estrategia, hasta - desde, false );
+        if( usada == EstrategiaOrdenamiento.PARALELO )
+        {
+            Arrays.parallelSort( arreglo, desde, hasta );
+        }
+        else
+        {
+            Arrays.sort( arreglo, desde, hasta );
+        }
+        return usada;
+    }
+
+    /**
+     * Ordena de menor a mayor un rango de un arreglo de enteros usando ordenamiento por residuos (LSD radix sort) con dígitos de 8 bits.
+     * 
+     * Se hacen a lo sumo cuatro pasadas estables sobre los valores, usando un arreglo auxiliar del tamaño del rango. En la última pasada se invierte el bit de signo para
+     * que los negativos queden antes que los positivos. Las pasadas en las que todos los valores tienen el mismo dígito se omiten.
+     * @param arreglo El arreglo que se va a ordenar
+     * @param desde La primera posición que se ordena
+     * @param hasta La posición donde termina el rango que se ordena
+     */
+    static void ordenarRadix( int[] arreglo, int desde, int hasta )
+    {
+        int cantidad = hasta - desde;
+        if( cantidad < 2 )
+        {
+            return;
+        }
+        int[] origen = arreglo;
+        int inicioOrigen = desde;
+        int[] destino = new int[cantidad];
+        int inicioDestino = 0;
+        int[] posiciones = new int[257];
+        for( int desplazamiento = 0; desplazamiento < 32; desplazamiento += 8 )
+        {
+            int signo = desplazamiento == 24 ? 0x80 : 0;
+            Arrays.fill( posiciones, 0 );
+            for( int i = 0; i < cantidad; i++ )
+            {
+                posiciones[ ( ( ( origen[ inicioOrigen + i ] >>> desplazamiento ) & 0xFF ) ^ signo ) + 1 ]++;
+            }
+            int primerDigito = ( ( origen[ inicioOrigen ] >>> desplazamiento ) & 0xFF ) ^ signo;
+            if( posiciones[ primerDigito + 1 ] != cantidad )
+            {
+                for( int d = 0; d < 256; d++ )
+                {
+                    posiciones[ d + 1 ] += posiciones[ d ];
+                }
+                for( int i = 0; i < cantidad; i++ )
+                {
+                    int valor = origen[ inicioOrigen + i ];
+                    int digito = ( ( valor >>> desplazamiento ) & 0xFF ) ^ signo;
+                    destino[ inicioDestino + posiciones[ digito ] ] = valor;
+                    posiciones[ digito ]++;
+                }
+                int[] temporal = origen;
+                origen = destino;
+                destino = temporal;
+                int inicioTemporal = inicioOrigen;
+                inicioOrigen = inicioDestino;
+                inicioDestino = inicioTemporal;
+            }
+        }
+        if( origen != arreglo )
+        {
+            System.arraycopy( origen, 0, arreglo, desde, cantidad );
+        }
+    }
+}
@@ -1,35 +1,125 @@
 package uniandes.dpoo.estructuras.logica;
 
+import java.nio.IntBuffer;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 
 /**
  * Esta clase tiene un conjunto de métodos para practicar operaciones sobre arreglos de enteros y de cadenas.
  *
  * Todos los métodos deben operar sobre los atributos arregloEnteros y arregloCadenas.
  * 
- * No pueden agregarse nuevos atributos.
- * 
+ * Los arreglos son la única fuente de los valores: no pueden agregarse atributos que guarden los valores de otra forma (por ejemplo, listas o copias de los
+ * arreglos). Sí pueden agregarse atributos que describan cómo están guardados los arreglos (la cantidad de posiciones ocupadas), información derivada de sus valores
+ * que se mantiene actualizada o se descarta cuando cambian (estadísticas, índices) y opciones de configuración de las operaciones.
+ *
  * Implemente los métodos usando operaciones sobre arreglos (ie., no haga cosas como construir listas para evitar la manipulación de arreglos).
  */
 public class SandboxArreglos
 {
+    /**
+     * Capacidad mínima que se reserva la primera vez que alguno de los arreglos tiene que crecer
+     */
+    private static final int CAPACIDAD_MINIMA = 10;
+
     /**
      * Un arreglo de enteros para realizar varias de las siguientes operaciones.
      * 
-     * Ninguna posición del arreglo puede estar vacía en ningún momento.
+     * Sólo las primeras cantidadEnteros posiciones tienen valores válidos: el resto del arreglo es capacidad reservada para los siguientes valores que se agreguen.
      */
     private int[] arregloEnteros;
 
+    /**
+     * La cantidad de posiciones de arregloEnteros que están ocupadas
+     */
+    private int cantidadEnteros;
+
+    /**
+     * Las estadísticas (cantidad, suma, mínimo y máximo) de los valores del arreglo de enteros, que se mantienen actualizadas con cada modificación
+     */
+    private EstadisticasEnteros estadisticasEnteros;
+
     /**
      * Un arreglo de cadenas para realizar varias de las siguientes operaciones
      * 
-     * Ninguna posición del arreglo puede estar vacía en ningún momento.
+     * Sólo las primeras cantidadCadenas posiciones tienen valores válidos: el resto del arreglo es capacidad reservada y siempre contiene null.
      */
     private String[] arregloCadenas;
 
+    /**
+     * La cantidad de posiciones de arregloCadenas que están ocupadas
+     */
+    private int cantidadCadenas;
+
+    /**
+     * El arreglo de enteros que se compartió la última vez que se llamó a getVistaEnteros, o null si no se ha compartido. Mientras arregloEnteros sea este mismo arreglo,
+     * hay que copiarlo antes de cambiar alguna de sus posiciones ocupadas.
+     */
+    private int[] enterosCompartidos;
+
+    /**
+     * El arreglo de cadenas que se compartió la última vez que se llamó a getVistaCadenas, o null si no se ha compartido. Mientras arregloCadenas sea este mismo arreglo,
+     * hay que copiarlo antes de cambiar alguna de sus posiciones ocupadas.
+     */
+    private String[] cadenasCompartidas;
+
+    /**
+     * Indica si insertarEntero debe dejar un hueco (un bloque de posiciones libres) en el arreglo de enteros donde se hizo la última inserción
+     */
+    private boolean insercionConHueco;
+
+    /**
+     * La posición del arreglo de enteros donde empieza el hueco. Sólo es válida si tamanoHueco es mayor a 0.
+     */
+    private int inicioHueco;
+
+    /**
+     * La cantidad de posiciones libres que hay en el hueco. Si es mayor a 0, los enteros ocupan las posiciones [0, inicioHueco) y
+     * [inicioHueco + tamanoHueco, cantidadEnteros + tamanoHueco) del arreglo, y hay que llamar a cerrarHuecoEnteros antes de usar el arreglo de cualquier otra forma.
+     */
+    private int tamanoHueco;
+
+    /**
+     * Indica si buscarEntero y contarApariciones deben responder usando un índice ordenado del arreglo de enteros en lugar de recorrerlo
+     */
+    private boolean busquedaIndexada;
+
+    /**
+     * El índice ordenado del arreglo de enteros. Se construye la primera vez que se necesita y se descarta (queda en null) cada vez que el arreglo de enteros cambia.
+     */
+    private IndiceEnteros indiceEnteros;
+
+    /**
+     * Indica si las operaciones masivas sobre el arreglo de enteros se deben ejecutar en paralelo cuando el arreglo es suficientemente grande
+     */
+    private boolean ejecucionParalela;
+
+    /**
+     * El pool de hilos donde se ejecutan las operaciones paralelas
+     */
+    private ForkJoinPool poolParalelo;
+
+    /**
+     * La cantidad de enteros a partir de la cual se usa la ejecución paralela. También es la cantidad máxima de posiciones que procesa cada tarea.
+     */
+    private int umbralParalelo;
+
+    /**
+     * El generador que usa generarEnteros para producir los valores aleatorios
+     */
+    private GeneradorEnteros generadorEnteros;
+
+    /**
+     * La estrategia que se usa para organizar los arreglos cuando no se indica una explícitamente
+     */
+    private EstrategiaOrdenamiento estrategiaOrdenamiento;
+
     /**
      * Crea una nueva instancia de la clase con los dos arreglos inicializados pero vacíos (tamaño 0)
      */
@@ -37,6 +127,279 @@ public class SandboxArreglos
     {
         arregloEnteros = new int[]{};
         arregloCadenas = new String[]{};
+        cantidadEnteros = 0;
+        cantidadCadenas = 0;
+        estadisticasEnteros = new EstadisticasEnteros( );
+        estrategiaOrdenamiento = EstrategiaOrdenamiento.AUTOMATICA;
+        busquedaIndexada = false;
+        indiceEnteros = null;
+        enterosCompartidos = null;
+        cadenasCompartidas = null;
+        insercionConHueco = false;
+        inicioHueco = 0;
+        tamanoHueco = 0;
+        ejecucionParalela = false;
+        poolParalelo = ForkJoinPool.commonPool( );
+        umbralParalelo = Ordenamientos.UMBRAL_PARALELO;
+        generadorEnteros = new GeneradorEnteros( );
+    }
+
+    /**
+     * Calcula la nueva capacidad de un arreglo que tiene que crecer. La capacidad crece de forma geométrica (se duplica) para que agregar valores uno por uno tome tiempo
+     * constante amortizado.
+     * @param capacidadActual La capacidad que tiene el arreglo actualmente
+     * @param capacidadRequerida La capacidad mínima que debe tener el arreglo después de crecer
+     * @return La nueva capacidad del arreglo
+     */
+    private static int calcularNuevaCapacidad( int capacidadActual, int capacidadRequerida )
+    {
+        int nuevaCapacidad = Math.max( capacidadActual * 2, CAPACIDAD_MINIMA );
+        if( nuevaCapacidad < capacidadRequerida || nuevaCapacidad < 0 )
+        {
+            nuevaCapacidad = capacidadRequerida;
+        }
+        return nuevaCapacidad;
+    }
+
+    /**
+     * Descarta la información derivada del contenido del arreglo de enteros que no se actualiza de forma incremental. Debe llamarse cada vez que el arreglo de enteros
+     * cambia.
+     */
+    private void invalidarIndiceEnteros( )
+    {
+        indiceEnteros = null;
+    }
+
+    /**
+     * Garantiza que se pueden cambiar las posiciones ocupadas del arreglo de enteros sin afectar las vistas retornadas por getVistaEnteros. Si el arreglo actual está
+     * compartido con alguna vista, se reemplaza por una copia. Debe llamarse antes de escribir en una posición menor a cantidadEnteros o de reducir cantidadEnteros.
+     */
+    private void prepararModificacionEnteros( )
+    {
+        if( arregloEnteros == enterosCompartidos )
+        {
+            arregloEnteros = Arrays.copyOf( arregloEnteros, arregloEnteros.length );
+            enterosCompartidos = null;
+        }
+    }
+
+    /**
+     * Garantiza que se pueden cambiar las posiciones ocupadas del arreglo de cadenas sin afectar las vistas retornadas por getVistaCadenas. Si el arreglo actual está
+     * compartido con alguna vista, se reemplaza por una copia. Debe llamarse antes de escribir en una posición menor a cantidadCadenas o de reducir cantidadCadenas.
+     */
+    private void prepararModificacionCadenas( )
+    {
+        if( arregloCadenas == cadenasCompartidas )
+        {
+            arregloCadenas = Arrays.copyOf( arregloCadenas, arregloCadenas.length );
+            cadenasCompartidas = null;
+        }
+    }
+
+    /**
+     * Cierra el hueco que dejó la inserción con hueco, si existe, de modo que los enteros vuelvan a ocupar las primeras cantidadEnteros posiciones del arreglo.
+     *
+     * Todos los métodos que usan el arreglo de enteros, salvo insertarEntero, deben llamar a este método antes de usarlo.
+     */
+    private void cerrarHuecoEnteros( )
+    {
+        if( tamanoHueco > 0 )
+        {
+            CopiasArreglos.cerrarEspacio( arregloEnteros, cantidadEnteros + tamanoHueco, inicioHueco, tamanoHueco );
+            tamanoHueco = 0;
+        }
+    }
+
+    /**
+     * Mueve el hueco del arreglo de enteros para que empiece en la posición indicada, desplazando sólo los enteros que quedan entre la posición actual del hueco y la nueva.
+     * Si no hay hueco, abre uno nuevo con toda la capacidad libre del arreglo (o con la capacidad que se gana al hacerlo crecer, si está lleno).
+     * @param posicion La posición (entre 0 y cantidadEnteros) donde debe empezar el hueco
+     */
+    private void moverHuecoEnteros( int posicion )
+    {
+        prepararModificacionEnteros( );
+        if( tamanoHueco == 0 )
+        {
+            int capacidad = cantidadEnteros < arregloEnteros.length ? arregloEnteros.length : calcularNuevaCapacidad( arregloEnteros.length, cantidadEnteros + 1 );
+            arregloEnteros = CopiasArreglos.abrirEspacio( arregloEnteros, cantidadEnteros, posicion, capacidad - cantidadEnteros, capacidad );
+            tamanoHueco = capacidad - cantidadEnteros;
+        }
+        else if( posicion < inicioHueco )
+        {
+            System.arraycopy( arregloEnteros, posicion, arregloEnteros, posicion + tamanoHueco, inicioHueco - posicion );
+        }
+        else if( posicion > inicioHueco )
+        {
+            System.arraycopy( arregloEnteros, inicioHueco + tamanoHueco, arregloEnteros, inicioHueco, posicion - inicioHueco );
+        }
+        inicioHueco = posicion;
+    }
+
+    /**
+     * Activa o desactiva la inserción con hueco.
+     * 
+     * Cuando está activa, insertarEntero deja un bloque de posiciones libres (un hueco) justo después del valor insertado. Si la siguiente inserción se hace cerca de la
+     * anterior, sólo hay que desplazar los enteros que están entre las dos posiciones, en lugar de todos los enteros que están después de la posición. El hueco se cierra
+     * (en tiempo lineal) la próxima vez que se use el arreglo de enteros con cualquier otro método, así que conviene activarla cuando se hacen muchas inserciones seguidas
+     * alrededor de la misma posición.
+     * @param activa True para activar la inserción con hueco, false para desplazar los enteros en cada inserción
+     */
+    public void setInsercionConHueco( boolean activa )
+    {
+        if( !activa )
+        {
+            cerrarHuecoEnteros( );
+        }
+        insercionConHueco = activa;
+    }
+
+    /**
+     * Indica si la inserción con hueco está activa
+     * @return True si insertarEntero deja un hueco donde se hizo la última inserción
+     */
+    public boolean isInsercionConHueco( )
+    {
+        return insercionConHueco;
+    }
+
+    /**
+     * Indica si una operación masiva sobre el arreglo de enteros se debe ejecutar en paralelo
+     * @return True si la ejecución paralela está activa y el arreglo tiene más enteros que el umbral paralelo
+     */
+    private boolean usarEjecucionParalela( )
+    {
+        return ejecucionParalela && cantidadEnteros > umbralParalelo;
+    }
+
+    /**
+     * Activa o desactiva la ejecución paralela de las operaciones masivas sobre el arreglo de enteros: volverPositivos, contarApariciones(int), buscarEntero,
+     * calcularHistograma (y los métodos que lo usan) y generarEnteros.
+     * 
+     * Cuando está activa y el arreglo tiene más enteros que el umbral paralelo, el arreglo se divide en pedazos que se procesan en el pool paralelo y los resultados
+     * parciales se combinan en orden, así que el resultado es el mismo que el de la ejecución secuencial.
+     * @param activa True para activar la ejecución paralela
+     */
+    public void setEjecucionParalela( boolean activa )
+    {
+        ejecucionParalela = activa;
+    }
+
+    /**
+     * Indica si la ejecución paralela está activa
+     * @return True si las operaciones masivas se ejecutan en paralelo cuando el arreglo es suficientemente grande
+     */
+    public boolean isEjecucionParalela( )
+    {
+        return ejecucionParalela;
+    }
+
+    /**
+     * Cambia el pool de hilos donde se ejecutan las operaciones paralelas. Su paralelismo determina cuántos hilos se usan como máximo.
+     * @param pool El nuevo pool. Si es null, se usa el pool común de la máquina virtual.
+     */
+    public void setPoolParalelo( ForkJoinPool pool )
+    {
+        poolParalelo = pool == null ? ForkJoinPool.commonPool( ) : pool;
+    }
+
+    /**
+     * Retorna el pool de hilos donde se ejecutan las operaciones paralelas
+     * @return El pool paralelo
+     */
+    public ForkJoinPool getPoolParalelo( )
+    {
+        return poolParalelo;
+    }
+
+    /**
+     * Cambia la cantidad de enteros a partir de la cual se usa la ejecución paralela. También es la cantidad máxima de posiciones que procesa cada tarea sin dividirse.
+     * @param umbral El nuevo umbral. Si es menor a 1, se usa 1.
+     */
+    public void setUmbralParalelo( int umbral )
+    {
+        umbralParalelo = Math.max( 1, umbral );
+    }
+
+    /**
+     * Retorna la cantidad de enteros a partir de la cual se usa la ejecución paralela
+     * @return El umbral paralelo
+     */
+    public int getUmbralParalelo( )
+    {
+        return umbralParalelo;
+    }
+
+    /**
+     * Retorna el índice ordenado del arreglo de enteros, construyéndolo si el arreglo cambió desde la última vez que se construyó
+     * @return El índice del arreglo de enteros
+     */
+    private IndiceEnteros getIndiceEnteros( )
+    {
+        if( indiceEnteros == null )
+        {
+            indiceEnteros = new IndiceEnteros( arregloEnteros, cantidadEnteros );
+        }
+        return indiceEnteros;
+    }
+
+    /**
+     * Activa o desactiva la búsqueda indexada. Cuando está activa, buscarEntero y contarApariciones(int) responden en tiempo O(log N + k) usando un índice con los
+     * valores ordenados y sus posiciones originales. El índice se construye (en tiempo O(N log N)) la primera vez que se consulta después de cada modificación del
+     * arreglo, así que conviene activarla cuando se hacen muchas búsquedas sobre un arreglo que cambia poco.
+     * @param activa True para activar la búsqueda indexada, false para recorrer el arreglo en cada búsqueda
+     */
+    public void setBusquedaIndexada( boolean activa )
+    {
+        busquedaIndexada = activa;
+        if( !activa )
+        {
+            invalidarIndiceEnteros( );
+        }
+    }
+
+    /**
+     * Garantiza que el arreglo de enteros tenga espacio para al menos la cantidad de valores indicada, sin tener que volver a crecer.
+     * 
+     * Este método no cambia la cantidad de enteros ni sus valores.
+     * @param capacidad La cantidad de valores que debe poder almacenar el arreglo de enteros
+     */
+    public void asegurarCapacidadEnteros( int capacidad )
+    {
+        cerrarHuecoEnteros( );
+        if( capacidad > arregloEnteros.length )
+        {
+            arregloEnteros = Arrays.copyOf( arregloEnteros, calcularNuevaCapacidad( arregloEnteros.length, capacidad ) );
+        }
+    }
+
+    /**
+     * Garantiza que el arreglo de cadenas tenga espacio para al menos la cantidad de valores indicada, sin tener que volver a crecer.
+     * 
+     * Este método no cambia la cantidad de cadenas ni sus valores.
+     * @param capacidad La cantidad de valores que debe poder almacenar el arreglo de cadenas
+     */
+    public void asegurarCapacidadCadenas( int capacidad )
+    {
+        if( capacidad > arregloCadenas.length )
+        {
+            arregloCadenas = Arrays.copyOf( arregloCadenas, calcularNuevaCapacidad( arregloCadenas.length, capacidad ) );
+        }
+    }
+
+    /**
+     * Reduce la capacidad de los dos arreglos para que sea exactamente igual a la cantidad de valores que contienen, liberando la memoria reservada que no se está usando.
+     */
+    public void ajustarCapacidad( )
+    {
+        cerrarHuecoEnteros( );
+        if( cantidadEnteros < arregloEnteros.length )
+        {
+            arregloEnteros = Arrays.copyOf( arregloEnteros, cantidadEnteros );
+        }
+        if( cantidadCadenas < arregloCadenas.length )
+        {
+            arregloCadenas = Arrays.copyOf( arregloCadenas, cantidadCadenas );
+        }
     }
 
     /**
@@ -45,15 +408,8 @@ public class SandboxArreglos
      */
     public int[] getCopiaEnteros()
     {
-    	int tamanoArreglo = arregloEnteros.length;
-    	int [] nuevoArreglo = new int [tamanoArreglo];
-    	
-    	for (int i=0; i<tamanoArreglo;i++)
-    	{
-    		int valor = arregloEnteros[i];
-    		nuevoArreglo[i]=valor;
-    	}
-        return nuevoArreglo;
+        cerrarHuecoEnteros( );
+        return Arrays.copyOf(arregloEnteros, cantidadEnteros);
     }
 
     /**
@@ -62,14 +418,35 @@ public class SandboxArreglos
      */
     public String[] getCopiaCadenas()
     {
-        String [] nuevoArreglo = new String[arregloCadenas.length];
-        
-        for (int i=0; i<arregloCadenas.length; i++)
-        {
-        	String valor = arregloCadenas[i];
-        	nuevoArreglo[i] = valor;
-        }
-    	return nuevoArreglo;
+    	return Arrays.copyOf(arregloCadenas, cantidadCadenas);
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de los valores actuales del arreglo de enteros, sin copiarlos.
+     * 
+     * La vista comparte la memoria del arreglo hasta que el arreglo se modifique: en ese momento el arreglo se copia (una sola vez), así que la vista sigue mostrando los
+     * valores que había cuando se pidió. Agregar valores al final no obliga a copiar el arreglo: la capacidad de la vista es la cantidad de valores que había, así que no
+     * se puede llegar a las posiciones que se llenen después.
+     * @return Un buffer de sólo lectura con los valores del arreglo de enteros, cuya capacidad es igual a la cantidad de enteros
+     */
+    public IntBuffer getVistaEnteros( )
+    {
+        cerrarHuecoEnteros( );
+        enterosCompartidos = arregloEnteros;
+        return IntBuffer.wrap( arregloEnteros, 0, cantidadEnteros ).slice( ).asReadOnlyBuffer( );
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de las cadenas actuales del arreglo de cadenas, sin copiarlas.
+     * 
+     * La vista comparte la memoria del arreglo hasta que el arreglo se modifique: en ese momento el arreglo se copia (una sola vez), así que la vista sigue mostrando las
+     * cadenas que había cuando se pidió. Agregar cadenas al final no obliga a copiar el arreglo.
+     * @return Una lista que no se puede modificar con las cadenas del arreglo
+     */
+    public List<String> getVistaCadenas( )
+    {
+        cadenasCompartidas = arregloCadenas;
+        return Collections.unmodifiableList( Arrays.asList( arregloCadenas ).subList( 0, cantidadCadenas ) );
     }
 
     /**
@@ -78,7 +455,7 @@ public class SandboxArreglos
      */
     public int getCantidadEnteros()
     {
-        return arregloEnteros.length;
+        return cantidadEnteros;
     }
 
     /**
@@ -87,7 +464,7 @@ public class SandboxArreglos
      */
     public int getCantidadCadenas()
     {
-        return arregloCadenas.length;
+        return cantidadCadenas;
     }
 
     /**
@@ -97,14 +474,11 @@ public class SandboxArreglos
      */
     public void agregarEntero(int entero)
     {
-    	int [] nuevoArreglo = new int [arregloEnteros.length+1];
-    	for (int i=0; i<arregloEnteros.length; i++)
-    	{
-    		int valor = arregloEnteros[i];
-    		nuevoArreglo[i] = valor;
-    	}
-    	nuevoArreglo[nuevoArreglo.length-1] = entero;
-    	arregloEnteros = nuevoArreglo;
+    	asegurarCapacidadEnteros(cantidadEnteros+1);
+    	arregloEnteros[cantidadEnteros] = entero;
+    	cantidadEnteros++;
+    	invalidarIndiceEnteros();
+    	estadisticasEnteros.registrar(entero);
     }
 
     /**
@@ -114,14 +488,57 @@ public class SandboxArreglos
      */
     public void agregarCadena( String cadena )
     {
-    	String [] nuevoArreglo = new String[arregloCadenas.length+1];
-    	for (int i=0; i<arregloCadenas.length; i++)
+    	asegurarCapacidadCadenas(cantidadCadenas+1);
+    	arregloCadenas[cantidadCadenas] = cadena;
+    	cantidadCadenas++;
+    }
+
+    /**
+     * Agrega al final del arreglo de enteros los valores que están entre las posiciones 'desde' (incluida) y 'hasta' (excluida) del arreglo recibido.
+     * 
+     * Los valores se copian en un solo bloque, reservando la capacidad necesaria una sola vez.
+     * @param valores El arreglo con los valores que se van a agregar
+     * @param desde La primera posición de 'valores' que se va a agregar. Si es menor a 0, se empieza desde la primera posición.
+     * @param hasta La posición de 'valores' donde se deja de agregar. Si es mayor que el tamaño de 'valores', se agregan los valores hasta el final.
+     */
+    public void agregarEnteros( int[] valores, int desde, int hasta )
+    {
+    	cerrarHuecoEnteros();
+    	int inicio = Math.max(desde, 0);
+    	int fin = Math.min(hasta, valores.length);
+    	if (inicio<fin)
     	{
-    		String valor = arregloCadenas[i];
-    		nuevoArreglo[i] = valor;
+    		int cantidadNuevos = fin-inicio;
+    		asegurarCapacidadEnteros(cantidadEnteros+cantidadNuevos);
+    		System.arraycopy(valores, inicio, arregloEnteros, cantidadEnteros, cantidadNuevos);
+    		cantidadEnteros += cantidadNuevos;
+    		invalidarIndiceEnteros();
+    		for (int i=inicio;i<fin;i++)
+    		{
+    			estadisticasEnteros.registrar(valores[i]);
+    		}
+    	}
+    }
+
+    /**
+     * Agrega al final del arreglo de cadenas los valores que están entre las posiciones 'desde' (incluida) y 'hasta' (excluida) del arreglo recibido.
+     * 
+     * Los valores se copian en un solo bloque, reservando la capacidad necesaria una sola vez.
+     * @param valores El arreglo con las cadenas que se van a agregar
+     * @param desde La primera posición de 'valores' que se va a agregar. Si es menor a 0, se empieza desde la primera posición.
+     * @param hasta La posición de 'valores' donde se deja de agregar. Si es mayor que el tamaño de 'valores', se agregan los valores hasta el final.
+     */
+    public void agregarCadenas( String[] valores, int desde, int hasta )
+    {
+    	int inicio = Math.max(desde, 0);
+    	int fin = Math.min(hasta, valores.length);
+    	if (inicio<fin)
+    	{
+    		int cantidadNuevas = fin-inicio;
+    		asegurarCapacidadCadenas(cantidadCadenas+cantidadNuevas);
+    		System.arraycopy(valores, inicio, arregloCadenas, cantidadCadenas, cantidadNuevas);
+    		cantidadCadenas += cantidadNuevas;
     	}
-    	nuevoArreglo[nuevoArreglo.length-1] = cadena;
-    	arregloCadenas = nuevoArreglo;
     }
 
     /**
@@ -130,31 +547,7 @@ public class SandboxArreglos
      */
     public void eliminarEntero( int valor )
     {
-    	int apariciones = contarApariciones(valor);
-    	while (apariciones>0)
-    	{
-    		int [] nuevoArreglo = new int [arregloEnteros.length-1];
-    		int pos = 0;
-    		boolean encontro = false;
-    		for (int i=0;(i<arregloEnteros.length)&&(!encontro);i++)
-    		{
-    			if (arregloEnteros[i]==valor)
-    			{
-    				pos = i;
-    				encontro = true;
-    			}
-    		}
-    		for (int j=0;j<pos;j++)
-    		{
-    			nuevoArreglo[j] = arregloEnteros[j];
-    		}
-    		for (int k=pos+1;k<arregloEnteros.length;k++)
-    		{
-    			nuevoArreglo[k-1] = arregloEnteros[k];
-    		}
-    		arregloEnteros = nuevoArreglo;
-    		apariciones--;
-    	}
+    	eliminarEnteros(entero -> entero==valor);
     }
 
     /**
@@ -163,71 +556,127 @@ public class SandboxArreglos
      */
     public void eliminarCadena( String cadena )
     {
-    	int apariciones = contarApariciones(cadena);
-    	while (apariciones>0)
+    	eliminarCadenas(elemento -> ComparacionCadenas.igualesSinMayusculas(cadena, elemento));
+    }
+
+    /**
+     * Elimina del arreglo de enteros todos los valores que cumplen el criterio recibido, conservando el orden de los demás.
+     * 
+     * Los valores que se conservan se compactan dentro del mismo arreglo en un solo recorrido, sin reservar memoria adicional.
+     * @param criterio El criterio que deben cumplir los valores que se van a eliminar
+     * @return La cantidad de valores eliminados
+     */
+    public int eliminarEnteros( IntPredicate criterio )
+    {
+    	cerrarHuecoEnteros();
+    	prepararModificacionEnteros();
+    	int destino = 0;
+    	for (int i=0;i<cantidadEnteros;i++)
     	{
-    		String [] nuevoArreglo = new String [arregloCadenas.length-1];
-    		int pos = 0;
-    		boolean encontro = false;
-    		for (int i=0;(i<arregloCadenas.length)&&(!encontro);i++)
+    		int valor = arregloEnteros[i];
+    		if (!criterio.test(valor))
     		{
-    			if ((arregloCadenas[i].toLowerCase()).equals(cadena.toLowerCase()))
-    			{
-    				pos = i;
-    				encontro = true;
-    			}
+    			arregloEnteros[destino] = valor;
+    			destino++;
     		}
-    		for (int j=0;j<pos;j++)
+    		else
     		{
-    			nuevoArreglo[j] = arregloCadenas[j];
+    			estadisticasEnteros.retirar(valor);
     		}
-    		for (int k=pos+1;k<arregloCadenas.length;k++)
+    	}
+    	int eliminados = cantidadEnteros-destino;
+    	cantidadEnteros = destino;
+    	invalidarIndiceEnteros();
+    	return eliminados;
+    }
+
+    /**
+     * Elimina del arreglo de cadenas todas las cadenas que cumplen el criterio recibido, conservando el orden de las demás.
+     * 
+     * Las cadenas que se conservan se compactan dentro del mismo arreglo en un solo recorrido, sin reservar memoria adicional.
+     * @param criterio El criterio que deben cumplir las cadenas que se van a eliminar
+     * @return La cantidad de cadenas eliminadas
+     */
+    public int eliminarCadenas( Predicate<String> criterio )
+    {
+    	prepararModificacionCadenas();
+    	int destino = 0;
+    	for (int i=0;i<cantidadCadenas;i++)
+    	{
+    		String valor = arregloCadenas[i];
+    		if (!criterio.test(valor))
     		{
-    			nuevoArreglo[k-1] = arregloCadenas[k];
+    			arregloCadenas[destino] = valor;
+    			destino++;
     		}
-    		arregloCadenas = nuevoArreglo;
-    		apariciones--;
     	}
+    	int eliminadas = cantidadCadenas-destino;
+    	Arrays.fill(arregloCadenas, destino, cantidadCadenas, null);
+    	cantidadCadenas = destino;
+    	return eliminadas;
     }
 
     /**
      * Inserta un nuevo entero en el arreglo de enteros.
      * 
+     * Los enteros que están después de la posición se desplazan con un solo movimiento de bloque. Si el arreglo está lleno, se reserva un nuevo arreglo una sola vez y
+     * cada parte se copia directamente a su posición final. Si la inserción con hueco está activa, sólo se desplazan los enteros que hay entre esta posición y la de la
+     * inserción anterior.
+     * 
      * @param entero El nuevo valor que debe agregarse
      * @param posicion La posición donde debe quedar el nuevo valor en el arreglo aumentado. Si la posición es menor a 0, se inserta el valor en la primera posición. Si la
      *        posición es mayor que el tamaño del arreglo, se inserta el valor en la última posición.
      */
     public void insertarEntero( int entero, int posicion )
     {
-    	int [] nuevoArreglo = new int[arregloEnteros.length+1];
-    	if ((0<posicion)&&(posicion<arregloEnteros.length))
+    	int pos = Math.min(Math.max(posicion, 0), cantidadEnteros);
+    	if (insercionConHueco)
     	{
-    		for (int i=0;i<posicion;i++)
-    		{
-    			nuevoArreglo[i] = arregloEnteros[i];
-    		}
-    		nuevoArreglo[posicion] = entero;
-    		for (int i=posicion+1;i<arregloEnteros.length;i++)
-    		{
-    			nuevoArreglo[i] = arregloEnteros[i-1];
-    		}
+    		moverHuecoEnteros(pos);
+    		inicioHueco++;
+    		tamanoHueco--;
     	}
-    	
-    	else if (posicion<=0)
+    	else
     	{
-    		nuevoArreglo[0] = entero;
-    		for (int i=0;i<arregloEnteros.length;i++)
+    		if (cantidadEnteros<arregloEnteros.length)
     		{
-    			nuevoArreglo[i+1] = arregloEnteros[i];
+    			prepararModificacionEnteros();
     		}
-    		
+    		arregloEnteros = CopiasArreglos.abrirEspacio(arregloEnteros, cantidadEnteros, pos, 1, calcularNuevaCapacidad(arregloEnteros.length, cantidadEnteros+1));
+    	}
+    	arregloEnteros[pos] = entero;
+    	cantidadEnteros++;
+    	invalidarIndiceEnteros();
+    	estadisticasEnteros.registrar(entero);
+    }
+
+    /**
+     * Inserta todos los valores de un arreglo dentro del arreglo de enteros, conservando su orden.
+     * 
+     * Si hay capacidad suficiente, los valores existentes se desplazan dentro del mismo arreglo; si no, se reserva un nuevo arreglo una sola vez y cada bloque se copia
+     * directamente a su posición final.
+     * @param valores Los valores que deben insertarse
+     * @param posicion La posición donde debe quedar el primero de los nuevos valores. Si la posición es menor a 0, los valores se insertan al principio. Si la posición es
+     *        mayor que el tamaño del arreglo, los valores se insertan al final.
+     */
+    public void insertarEnteros( int[] valores, int posicion )
+    {
+    	cerrarHuecoEnteros();
+    	int pos = Math.min(Math.max(posicion, 0), cantidadEnteros);
+    	int cantidadNuevos = valores.length;
+    	int nuevaCantidad = cantidadEnteros+cantidadNuevos;
+    	if (nuevaCantidad<=arregloEnteros.length)
+    	{
+    		prepararModificacionEnteros();
     	}
-    	
-    	else if (posicion>arregloEnteros.length)
+    	arregloEnteros = CopiasArreglos.abrirEspacio(arregloEnteros, cantidadEnteros, pos, cantidadNuevos, calcularNuevaCapacidad(arregloEnteros.length, nuevaCantidad));
+    	System.arraycopy(valores, 0, arregloEnteros, pos, cantidadNuevos);
+    	cantidadEnteros = nuevaCantidad;
+    	invalidarIndiceEnteros();
+    	for (int valor:valores)
     	{
-    		agregarEntero(entero);
+    		estadisticasEnteros.registrar(valor);
     	}
-    	arregloEnteros = nuevoArreglo;
     }
 
     /**
@@ -237,18 +686,14 @@ public class SandboxArreglos
      */
     public void eliminarEnteroPorPosicion( int posicion )
     {
-    	if ((0<=posicion)&&(posicion<arregloEnteros.length))
+    	cerrarHuecoEnteros();
+    	if ((0<=posicion)&&(posicion<cantidadEnteros))
     	{
-    		int[] nuevoArreglo = new int [arregloEnteros.length-1];
-    		for (int i=0;i<posicion;i++)
-    		{
-    			nuevoArreglo[i] = arregloEnteros[i];
-       		}
-    		for (int j=posicion+1;j<arregloEnteros.length;j++)
-    		{
-    			nuevoArreglo[j-1] = arregloEnteros[j];
-    		}
-    		arregloEnteros = nuevoArreglo;
+    		estadisticasEnteros.retirar(arregloEnteros[posicion]);
+    		prepararModificacionEnteros();
+    		CopiasArreglos.cerrarEspacio(arregloEnteros, cantidadEnteros, posicion, 1);
+    		cantidadEnteros--;
+    		invalidarIndiceEnteros();
     	}
     }
 
@@ -260,12 +705,16 @@ public class SandboxArreglos
      */
     public void reiniciarArregloEnteros( double[] valores )
     {
+    	cerrarHuecoEnteros();
     	int[] nuevoArreglo = new int[valores.length];
     	for (int i=0;i<valores.length;i++)
     	{
     		nuevoArreglo[i] = i;	
     	}
-    	arregloEnteros = nuevoArreglo;	
+    	arregloEnteros = nuevoArreglo;
+    	cantidadEnteros = nuevoArreglo.length;
+    	invalidarIndiceEnteros();
+    	estadisticasEnteros.recalcular(arregloEnteros, cantidadEnteros);
     }
 
     /**
@@ -283,6 +732,7 @@ public class SandboxArreglos
     		nuevoArreglo[i] = objeto.toString();
     	}
     	arregloCadenas = nuevoArreglo;
+    	cantidadCadenas = nuevoArreglo.length;
     }
 
     /**
@@ -292,12 +742,30 @@ public class SandboxArreglos
      */
     public void volverPositivos( )
     {
-    	for(int i=0; i<arregloEnteros.length;i++)
+    	cerrarHuecoEnteros();
+    	boolean paralelo = usarEjecucionParalela();
+    	boolean hayNegativos;
+    	if (paralelo)
+    	{
+    		hayNegativos = OperacionesParalelas.hayNegativos(poolParalelo, umbralParalelo, arregloEnteros, cantidadEnteros);
+    	}
+    	else
     	{
-    		if(arregloEnteros[i]<0)
+    		hayNegativos = KernelesEnteros.hayNegativos(arregloEnteros, 0, cantidadEnteros);
+    	}
+    	if (hayNegativos)
+    	{
+    		prepararModificacionEnteros();
+    		if (paralelo)
     		{
-    			arregloEnteros[i] = arregloEnteros[i]*(-1);	
+    			OperacionesParalelas.volverPositivos(poolParalelo, umbralParalelo, arregloEnteros, cantidadEnteros);
     		}
+    		else
+    		{
+    			KernelesEnteros.volverPositivos(arregloEnteros, 0, cantidadEnteros);
+    		}
+    		invalidarIndiceEnteros();
+    		estadisticasEnteros.recalcular(arregloEnteros, cantidadEnteros);
     	}
     }
 
@@ -306,7 +774,19 @@ public class SandboxArreglos
      */
     public void organizarEnteros( )
     {
-    	Arrays.sort(arregloEnteros);
+    	organizarEnteros(estrategiaOrdenamiento);
+    }
+
+    /**
+     * Modifica el arreglo de enteros para que todos los valores queden organizados de menor a mayor, usando la estrategia de ordenamiento indicada.
+     * @param estrategia La estrategia de ordenamiento que se debe usar
+     */
+    public void organizarEnteros( EstrategiaOrdenamiento estrategia )
+    {
+    	cerrarHuecoEnteros();
+    	prepararModificacionEnteros();
+    	Ordenamientos.ordenar(arregloEnteros, 0, cantidadEnteros, estrategia);
+    	invalidarIndiceEnteros();
     }
 
     /**
@@ -314,7 +794,37 @@ public class SandboxArreglos
      */
     public void organizarCadenas( )
     {
-    	Arrays.sort(arregloCadenas);
+    	organizarCadenas(estrategiaOrdenamiento);
+    }
+
+    /**
+     * Modifica el arreglo de cadenas para que todos los valores queden organizados lexicográficamente, usando la estrategia de ordenamiento indicada.
+     * 
+     * Como el ordenamiento por residuos sólo aplica para enteros, si se pide la estrategia RADIX se usa el ordenamiento secuencial.
+     * @param estrategia La estrategia de ordenamiento que se debe usar
+     */
+    public void organizarCadenas( EstrategiaOrdenamiento estrategia )
+    {
+    	prepararModificacionCadenas();
+    	Ordenamientos.ordenar(arregloCadenas, 0, cantidadCadenas, estrategia);
+    }
+
+    /**
+     * Cambia la estrategia que usan organizarEnteros y organizarCadenas cuando no se indica una estrategia explícitamente
+     * @param estrategia La nueva estrategia de ordenamiento
+     */
+    public void setEstrategiaOrdenamiento( EstrategiaOrdenamiento estrategia )
+    {
+    	estrategiaOrdenamiento = estrategia;
+    }
+
+    /**
+     * Retorna la estrategia que usan organizarEnteros y organizarCadenas cuando no se indica una estrategia explícitamente
+     * @return La estrategia de ordenamiento configurada
+     */
+    public EstrategiaOrdenamiento getEstrategiaOrdenamiento( )
+    {
+    	return estrategiaOrdenamiento;
     }
 
     /**
@@ -324,13 +834,19 @@ public class SandboxArreglos
      */
     public int contarApariciones( int valor )
     {
+    	cerrarHuecoEnteros();
     	int conteo = 0;
-    	for (int i=0;i<arregloEnteros.length;i++)
+    	if (busquedaIndexada)
     	{
-    		if (arregloEnteros[i]==valor)
-    		{
-    			conteo++;
-    		}
+    		conteo = getIndiceEnteros().contar(valor);
+    	}
+    	else if (usarEjecucionParalela())
+    	{
+    		conteo = OperacionesParalelas.contar(poolParalelo, umbralParalelo, arregloEnteros, cantidadEnteros, valor);
+    	}
+    	else
+    	{
+    		conteo = KernelesEnteros.contar(arregloEnteros, 0, cantidadEnteros, valor);
     	}
         return conteo;
     }
@@ -344,15 +860,7 @@ public class SandboxArreglos
      */
     public int contarApariciones( String cadena )
     {
-    	int conteo = 0;
-    	for (int i=0;i<arregloCadenas.length;i++)
-    	{
-    		if ((cadena.toLowerCase()).equals(arregloCadenas[i].toLowerCase()))
-    		{
-    			conteo++;
-    		}
-    	}
-        return conteo;
+        return ComparacionCadenas.contarSinMayusculas(arregloCadenas, cantidadCadenas, cadena);
     }
 
     /**
@@ -363,23 +871,20 @@ public class SandboxArreglos
      */
     public int[] buscarEntero( int valor )
     {
-    	int numPosiciones = contarApariciones(valor);
-    	int [] posiciones = new int [0];
-    	if (numPosiciones>0)
+    	cerrarHuecoEnteros();
+    	int [] posiciones;
+    	if (busquedaIndexada)
     	{
-    		int [] pos = new int[numPosiciones];
-    		int j = 0;
-    		for (int i=0;i<arregloEnteros.length;i++)
-    		{
-    			if (arregloEnteros[i]==valor)
-    			{
-    				pos[j] = i;
-    				j++;
-    			}
-    		}
-    		posiciones = pos;
+    		posiciones = getIndiceEnteros().buscar(valor);
+    	}
+    	else if (usarEjecucionParalela())
+    	{
+    		posiciones = OperacionesParalelas.buscar(poolParalelo, umbralParalelo, arregloEnteros, cantidadEnteros, valor);
+    	}
+    	else
+    	{
+    		posiciones = KernelesEnteros.buscar(arregloEnteros, 0, cantidadEnteros, valor);
     	}
-
         return posiciones;
     }
 
@@ -391,17 +896,34 @@ public class SandboxArreglos
     public int[] calcularRangoEnteros( )
     {
     	int [] rango = new int [0];
-    	if (arregloEnteros.length != 0)
+    	if (cantidadEnteros != 0)
     	{
-    		organizarEnteros();
+    		EstadisticasEnteros estadisticas = getEstadisticasEnteros();
     		int [] rta = new int [2];
-    		rta[0] = arregloEnteros[0];
-    		rta[1] = arregloEnteros[arregloEnteros.length-1];
+    		rta[0] = estadisticas.getMinimo();
+    		rta[1] = estadisticas.getMaximo();
     		rango = rta;	
     	}
         return rango;
     }
 
+    /**
+     * Retorna las estadísticas (cantidad, suma, mínimo, máximo y promedio) de los valores del arreglo de enteros.
+     * 
+     * Las estadísticas se mantienen actualizadas con cada modificación del arreglo, así que normalmente no es necesario recorrerlo. Sólo cuando se eliminó el valor
+     * mínimo o el máximo se recorre el arreglo una vez para volver a calcularlos.
+     * @return Una copia de las estadísticas actuales del arreglo de enteros
+     */
+    public EstadisticasEnteros getEstadisticasEnteros( )
+    {
+    	cerrarHuecoEnteros();
+    	if (!estadisticasEnteros.isRangoVigente())
+    	{
+    		estadisticasEnteros.recalcular(arregloEnteros, cantidadEnteros);
+    	}
+    	return new EstadisticasEnteros(estadisticasEnteros);
+    }
+
     /**
      * Calcula un histograma de los valores del arreglo de enteros y lo devuelve como un mapa donde las llaves son los valores del arreglo y los valores son la cantidad de
      * veces que aparece cada uno en el arreglo de enteros.
@@ -409,16 +931,25 @@ public class SandboxArreglos
      */
     public HashMap<Integer, Integer> calcularHistograma( )
     {
-    	HashMap<Integer,Integer> histograma = new HashMap<Integer,Integer>();
-    	
-    	for (int i=0;i<arregloEnteros.length;i++)
-    	{
-    		Integer llave = arregloEnteros[i];
-    		if (!(histograma.containsKey(llave)))
-    		{
-    			histograma.put(llave, contarApariciones(arregloEnteros[i]));
-    		}
-    	}
+        return calcularHistogramaPrimitivo().aMapa();
+    }
+
+    /**
+     * Calcula un histograma de los valores del arreglo de enteros recorriendo el arreglo una sola vez y sin convertir los valores ni los conteos en objetos.
+     * @return El histograma de los valores del arreglo de enteros
+     */
+    public HistogramaEnteros calcularHistogramaPrimitivo( )
+    {
+        cerrarHuecoEnteros( );
+        HistogramaEnteros histograma;
+        if (usarEjecucionParalela())
+        {
+            histograma = OperacionesParalelas.calcularHistograma(poolParalelo, umbralParalelo, arregloEnteros, cantidadEnteros);
+        }
+        else
+        {
+            histograma = HistogramaEnteros.calcular(arregloEnteros, 0, cantidadEnteros);
+        }
         return histograma;
     }
 
@@ -428,18 +959,7 @@ public class SandboxArreglos
      */
     public int contarEnterosRepetidos( )
     {
-    	int respuesta = 0;
-    	HashMap<Integer,Integer> mapaRepeticiones = calcularHistograma();
-    	Collection<Integer> numerosRepetidos = mapaRepeticiones.values();
-    	for (int repeticiones:numerosRepetidos)
-    	{
-    		if (repeticiones>1)
-    		{
-    			respuesta++;
-    		}
-    	}
-    	
-        return respuesta;
+        return calcularHistogramaPrimitivo().contarRepetidos();
     }
 
     /**
@@ -449,39 +969,72 @@ public class SandboxArreglos
      */
     public boolean compararArregloEnteros( int[] otroArreglo )
     {
-    	boolean diferente = false;
+    	cerrarHuecoEnteros();
     	boolean respuesta = false;
-    	for (int i=0;(i<arregloEnteros.length)&&(!diferente);i++)
+    	if (otroArreglo.length == cantidadEnteros)
     	{
-    		if (arregloEnteros[i]!=otroArreglo[i])
-    		{
-    			diferente = true;
-    		}
-    	}
-    	if (diferente == false)
-    	{
-    		respuesta = true;
+    		respuesta = KernelesEnteros.primeraDiferencia(arregloEnteros, otroArreglo, cantidadEnteros) == -1;
     	}
         return respuesta;
     }
 
     /**
      * Compara el arreglo de enteros con otro arreglo de enteros y verifica que tengan los mismos elementos, aunque podría ser en otro orden.
+     * 
+     * Ninguno de los dos arreglos se modifica: se calcula el histograma del arreglo de enteros y se descuentan de él los valores del otro arreglo, así que la comparación
+     * toma tiempo lineal en promedio.
      * @param otroArreglo El arreglo de enteros con el que se debe comparar
      * @return True si los elementos en los dos arreglos son los mismos
      */
     public boolean mismosEnteros( int[] otroArreglo )
     {
-    	organizarEnteros();
-    	Arrays.sort(otroArreglo);
-    	
-        return compararArregloEnteros(otroArreglo);
+    	boolean respuesta = otroArreglo.length == cantidadEnteros;
+    	if (respuesta)
+    	{
+    		HistogramaEnteros histograma = calcularHistogramaPrimitivo();
+    		for (int i=0;(i<otroArreglo.length)&&respuesta;i++)
+    		{
+    			respuesta = histograma.descontar(otroArreglo[i]) >= 0;
+    		}
+    	}
+        return respuesta;
+    }
+
+    /**
+     * Cambia el generador que usa generarEnteros. Para que las series generadas se puedan reproducir, se puede usar un generador creado con una semilla.
+     * @param generador El nuevo generador. Si es null, se usa un generador con una semilla escogida al azar.
+     */
+    public void setGeneradorEnteros( GeneradorEnteros generador )
+    {
+        generadorEnteros = generador == null ? new GeneradorEnteros( ) : generador;
+    }
+
+    /**
+     * Retorna el generador que usa generarEnteros
+     * @return El generador de enteros
+     */
+    public GeneradorEnteros getGeneradorEnteros( )
+    {
+        return generadorEnteros;
+    }
+
+    /**
+     * Reemplaza el arreglo de enteros por un arreglo nuevo que queda completamente ocupado
+     * @param nuevoArreglo El nuevo arreglo de enteros
+     */
+    private void reemplazarArregloEnteros( int[] nuevoArreglo )
+    {
+        arregloEnteros = nuevoArreglo;
+        cantidadEnteros = nuevoArreglo.length;
+        invalidarIndiceEnteros( );
+        estadisticasEnteros.recalcular( arregloEnteros, cantidadEnteros );
     }
 
     /**
      * Cambia los elementos del arreglo de enteros por una nueva serie de valores generada de forma aleatoria.
      * 
-     * Para generar los valores se debe partir de una distribución uniforme usando Math.random().
+     * Los valores siguen una distribución uniforme y se producen con el generador de enteros del sandbox. Si la ejecución paralela está activa y la cantidad es mayor que
+     * el umbral paralelo, el arreglo se llena en el pool paralelo; la serie generada es la misma que se obtendría en un solo hilo.
      * 
      * Los números en el arreglo deben quedar entre el valor mínimo y el máximo.
      * @param cantidad La cantidad de elementos que debe haber en el arreglo
@@ -490,13 +1043,22 @@ public class SandboxArreglos
      */
     public void generarEnteros( int cantidad, int minimo, int maximo )
     {
-    	int[] nuevoArreglo = new int[cantidad];
-    	
-    	for (int i=0; i<nuevoArreglo.length;i++)
-    	{
-    		nuevoArreglo[i] = (int)(Math.random()*(((maximo-minimo)+1)+minimo));
-    	}
-    	arregloEnteros = nuevoArreglo;
+    	cerrarHuecoEnteros();
+    	ForkJoinPool pool = (ejecucionParalela && cantidad > umbralParalelo) ? poolParalelo : null;
+    	reemplazarArregloEnteros(generadorEnteros.generar(cantidad, minimo, maximo, pool));
+    }
+
+    /**
+     * Cambia los elementos del arreglo de enteros por una nueva serie de valores diferentes generada de forma aleatoria, con el generador de enteros del sandbox.
+     * @param cantidad La cantidad de elementos que debe haber en el arreglo
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @throws IllegalArgumentException Si entre el mínimo y el máximo hay menos valores diferentes que la cantidad pedida
+     */
+    public void generarEnterosDistintos( int cantidad, int minimo, int maximo )
+    {
+    	cerrarHuecoEnteros();
+    	reemplazarArregloEnteros(generadorEnteros.generarDistintos(cantidad, minimo, maximo));
     }
 
 }
@@ -1,6 +1,7 @@
 package uniandes.dpoo.estructuras.logica;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.NavigableSet;
 import java.util.TreeSet;
@@ -15,6 +16,9 @@ import java.util.ArrayList;
  * 
  * A diferencia de un Set, en un NavigableSet existe una noción de orden que en este caso corresponde al órden lexicográfico.
  * 
+ * Por defecto el conjunto se guarda en un trie comprimido, pero también puede guardarse en un árbol (ver AlmacenamientoConjunto) sin que cambie el comportamiento de los
+ * métodos. Lo único que cambia es el costo de algunas operaciones.
+ * 
  * No pueden agregarse nuevos atributos.
  */
 public class SandboxConjuntos
@@ -27,11 +31,71 @@ public class SandboxConjuntos
     private NavigableSet<String> arbolCadenas;
 
     /**
-     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
+     * Crea una nueva instancia de la clase con el conjunto de cadenas inicializado pero vacío, guardado en un trie comprimido
      */
     public SandboxConjuntos( )
     {
-        arbolCadenas = new TreeSet<String>( );
+        this( AlmacenamientoConjunto.TRIE );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con el conjunto de cadenas inicializado pero vacío
+     * @param almacenamiento La estructura que se usa para guardar el conjunto de cadenas. Se conserva aunque se reinicie el conjunto.
+     */
+    public SandboxConjuntos( AlmacenamientoConjunto almacenamiento )
+    {
+        arbolCadenas = crearConjuntoCadenas( almacenamiento );
+    }
+
+    /**
+     * Crea un conjunto de cadenas vacío con la estructura indicada
+     * @param almacenamiento La estructura que debe usar el conjunto
+     * @return El nuevo conjunto
+     */
+    private static ConjuntoCadenas crearConjuntoCadenas( AlmacenamientoConjunto almacenamiento )
+    {
+        ConjuntoCadenas conjunto;
+        if( almacenamiento == AlmacenamientoConjunto.TRIE )
+        {
+            conjunto = new ConjuntoTrie( );
+        }
+        else
+        {
+            conjunto = new ConjuntoCadenasIndexado( );
+        }
+        return conjunto;
+    }
+
+    /**
+     * Retorna el conjunto de cadenas con sus operaciones sin mayúsculas ni minúsculas
+     * @return El conjunto de cadenas
+     */
+    private ConjuntoCadenas getConjuntoCadenas( )
+    {
+        return (ConjuntoCadenas) arbolCadenas;
+    }
+
+    /**
+     * Retorna la estructura que se está usando para guardar el conjunto de cadenas
+     * @return La estructura del conjunto de cadenas
+     */
+    public AlmacenamientoConjunto getAlmacenamientoCadenas( )
+    {
+        return arbolCadenas instanceof ConjuntoTrie ? AlmacenamientoConjunto.TRIE : AlmacenamientoConjunto.ARBOL;
+    }
+
+    /**
+     * Cambia la estructura que se usa para guardar el conjunto de cadenas, conservando las cadenas.
+     * @param almacenamiento La nueva estructura del conjunto de cadenas
+     */
+    public void setAlmacenamientoCadenas( AlmacenamientoConjunto almacenamiento )
+    {
+        if( almacenamiento != getAlmacenamientoCadenas( ) )
+        {
+            ConjuntoCadenas nuevoConjunto = crearConjuntoCadenas( almacenamiento );
+            nuevoConjunto.addAll( arbolCadenas );
+            arbolCadenas = nuevoConjunto;
+        }
     }
 
     /**
@@ -53,36 +117,72 @@ public class SandboxConjuntos
 
     /**
      * Retorna una lista con las cadenas del conjunto, ordenadas lexicográficamente de mayor a menor.
+     * 
+     * El conjunto se recorre en orden descendente sin modificarlo.
      * @return Una lista con las cadenas ordenadas de mayor a menor
      */
     public List<String> getCadenasComoListaInvertida( )
     {
-    	ArrayList<String> lista = new ArrayList<String>();
-    	for (int i=0;i<arbolCadenas.size();i++)
+    	ArrayList<String> lista = new ArrayList<String>(arbolCadenas.size());
+    	for (String elemento:arbolCadenas.descendingSet())
     	{
-    		lista.add(arbolCadenas.pollLast());
+    		lista.add(elemento);
     	}
         return lista;
     }
 
     /**
-     * Retorna la cadena que sea lexicográficamente menor en el conjunto de cadenas.
+     * Retorna una vista de sólo lectura de las cadenas del conjunto, ordenadas lexicográficamente de mayor a menor.
+     * 
+     * La vista no copia las cadenas: se recorre directamente sobre el conjunto y refleja los cambios que se le hagan después. Para recorrer el conjunto por partes se
+     * pueden usar los métodos de NavigableSet de la vista, por ejemplo tailSet(ultimaCadenaVista, false) para continuar después de la última cadena que se recorrió.
+     * @return Una vista de sólo lectura del conjunto en orden descendente
+     */
+    public NavigableSet<String> getVistaCadenasInvertida( )
+    {
+        return Collections.unmodifiableNavigableSet(arbolCadenas.descendingSet());
+    }
+
+    /**
+     * Retorna la cadena que sea lexicográficamente menor en el conjunto de cadenas, sin eliminarla.
      * 
      * Si el conjunto está vacío, debe retornar null.
      * @return La primera cadena del conjunto, o null si está vacío.
      */
     public String getPrimera( )
     {
-        return arbolCadenas.pollFirst();
+        return arbolCadenas.isEmpty() ? null : arbolCadenas.first();
     }
 
     /**
-     * Retorna la cadena que sea lexicográficamente mayor en el conjunto de cadenas
+     * Retorna la cadena que sea lexicográficamente mayor en el conjunto de cadenas, sin eliminarla.
      * 
      * Si el conjunto está vacío, debe retornar null.
      * @return La última cadena del conjunto, o null si está vacío.
      */
     public String getUltima( )
+    {
+        return arbolCadenas.isEmpty() ? null : arbolCadenas.last();
+    }
+
+    /**
+     * Retorna la cadena que sea lexicográficamente menor en el conjunto de cadenas y la elimina del conjunto.
+     * 
+     * Si el conjunto está vacío, debe retornar null.
+     * @return La primera cadena del conjunto, o null si está vacío.
+     */
+    public String tomarPrimera( )
+    {
+        return arbolCadenas.pollFirst();
+    }
+
+    /**
+     * Retorna la cadena que sea lexicográficamente mayor en el conjunto de cadenas y la elimina del conjunto.
+     * 
+     * Si el conjunto está vacío, debe retornar null.
+     * @return La última cadena del conjunto, o null si está vacío.
+     */
+    public String tomarUltima( )
     {
         return arbolCadenas.pollLast();
     }
@@ -97,6 +197,73 @@ public class SandboxConjuntos
         return arbolCadenas.tailSet(cadena);
     }
 
+    /**
+     * Retorna una vista de sólo lectura con las cadenas del conjunto que empiezan por un prefijo, ordenadas lexicográficamente.
+     * 
+     * Las cadenas que empiezan por un prefijo forman un rango del conjunto: van desde el prefijo mismo hasta la primera cadena que es mayor que todas sus extensiones.
+     * La vista no copia las cadenas y refleja los cambios que se le hagan al conjunto después.
+     * @param prefijo El prefijo de las cadenas buscadas
+     * @return Una vista con las cadenas que empiezan por el prefijo
+     */
+    public NavigableSet<String> getConPrefijo( String prefijo )
+    {
+        String limite = calcularLimitePrefijo(prefijo);
+        NavigableSet<String> rango = limite == null ? arbolCadenas.tailSet(prefijo, true) : arbolCadenas.subSet(prefijo, true, limite, false);
+        return Collections.unmodifiableNavigableSet(rango);
+    }
+
+    /**
+     * Calcula la menor cadena que es mayor que todas las cadenas que empiezan por un prefijo, incrementando el último caracter del prefijo que se pueda incrementar
+     * @param prefijo El prefijo
+     * @return La cadena límite, o null si ninguna cadena es mayor que todas las extensiones del prefijo (por ejemplo si el prefijo está vacío)
+     */
+    private static String calcularLimitePrefijo( String prefijo )
+    {
+        int ultimo = prefijo.length() - 1;
+        while (ultimo >= 0 && prefijo.charAt(ultimo) == Character.MAX_VALUE)
+        {
+            ultimo--;
+        }
+        if (ultimo < 0)
+        {
+            return null;
+        }
+        return prefijo.substring(0, ultimo) + (char) (prefijo.charAt(ultimo) + 1);
+    }
+
+    /**
+     * Retorna una vista de sólo lectura con las cadenas del conjunto que están entre dos cadenas, ordenadas lexicográficamente.
+     * 
+     * La vista no copia las cadenas y refleja los cambios que se le hagan al conjunto después.
+     * @param desde La menor cadena del rango
+     * @param desdeIncluida Indica si la cadena 'desde' hace parte del rango
+     * @param hasta La mayor cadena del rango
+     * @param hastaIncluida Indica si la cadena 'hasta' hace parte del rango
+     * @return Una vista con las cadenas del rango
+     * @throws IllegalArgumentException Si 'desde' es mayor que 'hasta'
+     */
+    public NavigableSet<String> getRango( String desde, boolean desdeIncluida, String hasta, boolean hastaIncluida )
+    {
+        return Collections.unmodifiableNavigableSet(arbolCadenas.subSet(desde, desdeIncluida, hasta, hastaIncluida));
+    }
+
+    /**
+     * Cuenta cuántas cadenas del conjunto están entre dos cadenas.
+     * 
+     * Con el almacenamiento por defecto (TRIE), cada nodo sabe cuántas cadenas hay en su subárbol y el conteo toma un tiempo proporcional a la longitud de las cadenas
+     * límite, sin importar cuántas cadenas haya en el conjunto o en el rango. Con el almacenamiento ARBOL el conteo es lineal: se recorren todas las cadenas del rango.
+     * @param desde La menor cadena del rango
+     * @param desdeIncluida Indica si la cadena 'desde' hace parte del rango
+     * @param hasta La mayor cadena del rango
+     * @param hastaIncluida Indica si la cadena 'hasta' hace parte del rango
+     * @return La cantidad de cadenas en el rango
+     * @throws IllegalArgumentException Si 'desde' es mayor que 'hasta'
+     */
+    public int contarEnRango( String desde, boolean desdeIncluida, String hasta, boolean hastaIncluida )
+    {
+        return arbolCadenas.subSet(desde, desdeIncluida, hasta, hastaIncluida).size();
+    }
+
     /**
      * Retorna la cantidad de valores en el conjunto de cadenas
      * @return
@@ -129,11 +296,33 @@ public class SandboxConjuntos
 
     /**
      * Elimina una cadena del conjunto de cadenas, independientemente de las mayúsculas o minúsculas
+     * 
+     * Se eliminan todas las formas en las que la cadena aparece en el conjunto (por ejemplo "ab", "Ab" y "AB"), sin recorrer todo el conjunto: se usa el índice del árbol o, en el trie, sólo las ramas que coinciden con la cadena.
      * @param cadena La cadena que se va eliminar, sin tener en cuenta las mayúsculas o minúsculas
      */
     public void eliminarCadenaSinMayusculasOMinusculas( String cadena )
     {
-    	arbolCadenas.remove(cadena.toLowerCase());
+    	getConjuntoCadenas().eliminarSinMayusculas(cadena);
+    }
+
+    /**
+     * Indica si una cadena hace parte del conjunto de cadenas, independientemente de las mayúsculas o minúsculas
+     * @param cadena La cadena buscada, sin tener en cuenta las mayúsculas o minúsculas
+     * @return True si alguna cadena del conjunto es igual a la buscada sin tener en cuenta mayúsculas y minúsculas
+     */
+    public boolean contieneCadenaSinMayusculasOMinusculas( String cadena )
+    {
+        return getConjuntoCadenas().contieneSinMayusculas(cadena);
+    }
+
+    /**
+     * Cuenta cuántas cadenas del conjunto son iguales a la cadena recibida por parámetro, independientemente de las mayúsculas o minúsculas
+     * @param cadena La cadena buscada, sin tener en cuenta las mayúsculas o minúsculas
+     * @return La cantidad de formas distintas en las que la cadena aparece en el conjunto
+     */
+    public int contarApariciones( String cadena )
+    {
+        return getConjuntoCadenas().contarSinMayusculas(cadena);
     }
 
     /**
@@ -152,7 +341,7 @@ public class SandboxConjuntos
      */
     public void reiniciarConjuntoCadenas( List<Object> objetos )
     {
-    	TreeSet<String> nuevoArbol = new TreeSet<String>();
+    	ConjuntoCadenas nuevoArbol = crearConjuntoCadenas(getAlmacenamientoCadenas());
     	for(Object elemento:objetos)
     	{
     		nuevoArbol.add(elemento.toString());
@@ -167,7 +356,7 @@ public class SandboxConjuntos
      */
     public void volverMayusculas( )
     {
-    	TreeSet<String> nuevoArbol = new TreeSet<String>();
+    	ConjuntoCadenas nuevoArbol = crearConjuntoCadenas(getAlmacenamientoCadenas());
     	ArrayList<String> arbolLista = (ArrayList<String>) getCadenasComoLista();
     	for (String elemento:arbolLista)
     	{
@@ -178,10 +367,12 @@ public class SandboxConjuntos
 
     /**
      * Construye un árbol de cadenas donde todas las cadenas están organizadas de MAYOR a MENOR.
+     * 
+     * El árbol retornado es una copia: modificarlo no cambia el conjunto de cadenas.
      */
     public TreeSet<String> invertirCadenas( )
     {
-        return (TreeSet<String>) arbolCadenas.descendingSet();
+        return new TreeSet<String>(arbolCadenas.descendingSet());
     }
 
     /**
@@ -1,9 +1,14 @@
 package uniandes.dpoo.estructuras.logica;
 
+import java.nio.IntBuffer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Esta clase tiene un conjunto de métodos para practicar operaciones sobre listas de enteros y de cadenas.
@@ -20,8 +25,10 @@ public class SandboxListas
 {
     /**
      * Una lista de enteros para realizar varias de las siguientes operaciones.
+     * 
+     * La lista guarda los valores como int, sin convertirlos a Integer, pero también puede usarse como una List&lt;Integer&gt;.
      */
-    private List<Integer> listaEnteros;
+    private ListaEnteros listaEnteros;
 
     /**
      * Una lista de cadenas para realizar varias de las siguientes operaciones
@@ -29,12 +36,64 @@ public class SandboxListas
     private List<String> listaCadenas;
 
     /**
-     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
+     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías. La lista de cadenas se guarda en un arreglo.
      */
     public SandboxListas( )
     {
-        listaEnteros = new ArrayList<Integer>( );
-        listaCadenas = new LinkedList<String>( );
+        this( AlmacenamientoCadenas.ARREGLO );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
+     * @param almacenamiento La estructura que se usa para guardar la lista de cadenas. Se conserva aunque se reinicie la lista.
+     */
+    public SandboxListas( AlmacenamientoCadenas almacenamiento )
+    {
+        listaEnteros = new ListaEnteros( );
+        listaCadenas = crearListaCadenas( almacenamiento, 0 );
+    }
+
+    /**
+     * Crea una lista de cadenas vacía con la estructura indicada
+     * @param almacenamiento La estructura que debe usar la lista
+     * @param capacidad La cantidad de cadenas que se espera guardar. Sólo se usa si la lista es un arreglo.
+     * @return La nueva lista
+     */
+    private static List<String> crearListaCadenas( AlmacenamientoCadenas almacenamiento, int capacidad )
+    {
+        List<String> lista;
+        if( almacenamiento == AlmacenamientoCadenas.ENLAZADO )
+        {
+            lista = new LinkedList<String>( );
+        }
+        else
+        {
+            lista = new ArrayList<String>( capacidad );
+        }
+        return lista;
+    }
+
+    /**
+     * Retorna la estructura que se está usando para guardar la lista de cadenas
+     * @return La estructura de la lista de cadenas
+     */
+    public AlmacenamientoCadenas getAlmacenamientoCadenas( )
+    {
+        return listaCadenas instanceof LinkedList ? AlmacenamientoCadenas.ENLAZADO : AlmacenamientoCadenas.ARREGLO;
+    }
+
+    /**
+     * Cambia la estructura que se usa para guardar la lista de cadenas, conservando las cadenas y su orden.
+     * @param almacenamiento La nueva estructura de la lista de cadenas
+     */
+    public void setAlmacenamientoCadenas( AlmacenamientoCadenas almacenamiento )
+    {
+        if( almacenamiento != getAlmacenamientoCadenas( ) )
+        {
+            List<String> nuevaLista = crearListaCadenas( almacenamiento, listaCadenas.size( ) );
+            nuevaLista.addAll( listaCadenas );
+            listaCadenas = nuevaLista;
+        }
     }
 
     /**
@@ -71,14 +130,29 @@ public class SandboxListas
      */
     public int[] getEnterosComoArreglo( )
     {
-    	int tamanoArreglo = listaEnteros.size();
-    	int [] arreglo = new int [tamanoArreglo];
-    	for (int i=0; i<listaEnteros.size();i++)
-    	{
-    		int elemento = listaEnteros.get(i);
-    		arreglo[i]= elemento;
-    	}
-        return arreglo;
+        return listaEnteros.aArreglo();
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de los valores actuales de la lista de enteros, sin copiarlos ni convertirlos a Integer.
+     * 
+     * La vista sigue mostrando los valores que había cuando se pidió aunque después se modifique la lista: los valores sólo se copian cuando se modifica la lista.
+     * @return Un buffer de sólo lectura con los valores de la lista de enteros
+     */
+    public IntBuffer getVistaEnteros( )
+    {
+        return listaEnteros.getVista();
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de la lista de cadenas, sin copiarla.
+     * 
+     * A diferencia de getVistaEnteros, esta vista no es una foto: refleja los cambios que se hagan después sobre la lista de cadenas.
+     * @return Una lista que no se puede modificar y que muestra el contenido actual de la lista de cadenas
+     */
+    public List<String> getVistaCadenas( )
+    {
+        return Collections.unmodifiableList(listaCadenas);
     }
 
     /**
@@ -106,7 +180,7 @@ public class SandboxListas
      */
     public void agregarEntero( int entero )
     {
-    	listaEnteros.add(entero);
+    	listaEnteros.agregar(entero);
     }
 
     /**
@@ -125,11 +199,40 @@ public class SandboxListas
      */
     public void eliminarEntero( int valor )
     {
-    	while (listaEnteros.contains(valor))
+    	listaEnteros.eliminarSi(elemento -> elemento == valor);
+    }
+
+    /**
+     * Elimina de la lista de enteros todas las apariciones de cualquiera de los valores recibidos, recorriendo la lista una sola vez.
+     * 
+     * Los valores a eliminar se guardan primero en un histograma, de modo que revisar si un elemento de la lista se debe eliminar toma tiempo constante.
+     * @param valores Los valores que se van a eliminar. Pueden estar repetidos.
+     * @return La cantidad de elementos eliminados de la lista
+     */
+    public int eliminarEnteros( int[] valores )
+    {
+    	HistogramaEnteros aEliminar = HistogramaEnteros.calcular(valores, 0, valores.length);
+    	return listaEnteros.eliminarSi(elemento -> aEliminar.getConteo(elemento) > 0);
+    }
+
+    /**
+     * Elimina de la lista de enteros todas las apariciones de cualquiera de los valores recibidos, recorriendo la lista una sola vez.
+     * 
+     * Los valores a eliminar se cuentan directamente en un histograma, sin copiarlos primero a otra estructura.
+     * @param valores Los valores que se van a eliminar. Pueden estar repetidos. Los elementos null se ignoran, porque la lista de enteros no puede contener null.
+     * @return La cantidad de elementos eliminados de la lista
+     */
+    public int eliminarEnteros( Collection<Integer> valores )
+    {
+    	HistogramaEnteros aEliminar = new HistogramaEnteros(valores.size());
+    	for (Integer valor:valores)
     	{
-    		Integer nuevoValor = (Integer) valor;
-    		listaEnteros.remove(nuevoValor);
-    	}	
+    		if (valor != null)
+    		{
+    			aEliminar.registrar(valor);
+    		}
+    	}
+    	return listaEnteros.eliminarSi(elemento -> aEliminar.getConteo(elemento) > 0);
     }
 
     /**
@@ -138,10 +241,7 @@ public class SandboxListas
      */
     public void eliminarCadena( String cadena )
     {
-    	while (listaCadenas.contains(cadena))
-    	{
-    		listaCadenas.remove(cadena);
-    	}
+    	listaCadenas.removeIf(elemento -> Objects.equals(cadena, elemento));
     }
 
     /**
@@ -155,15 +255,15 @@ public class SandboxListas
     {
     	if (posicion<0)
     	{
-    		listaEnteros.add(0, entero);
+    		listaEnteros.insertar(0, entero);
     	}
     	else if (posicion>listaEnteros.size())
     	{
-    		listaEnteros.add(entero);
+    		listaEnteros.agregar(entero);
     	}
     	else
     	{
-    		listaEnteros.add(posicion, entero);
+    		listaEnteros.insertar(posicion, entero);
     	}
     }
 
@@ -176,7 +276,7 @@ public class SandboxListas
     {
     	if ((posicion>=0)&&(posicion<listaEnteros.size()))
     	{
-    		listaEnteros.remove(posicion);
+    		listaEnteros.eliminarEn(posicion);
     	}
     }
 
@@ -188,12 +288,12 @@ public class SandboxListas
      */
     public void reiniciarArregloEnteros( double[] valores )
     {
-    	ArrayList<Integer> nuevoArray = new ArrayList<Integer>();
+    	ListaEnteros nuevaLista = new ListaEnteros(valores.length);
     	for (double elemento:valores)
     	{
-    		nuevoArray.add((int)elemento);
+    		nuevaLista.agregar((int)elemento);
     	}
-    	listaEnteros = nuevoArray;
+    	listaEnteros = nuevaLista;
     }
 
     /**
@@ -204,12 +304,12 @@ public class SandboxListas
      */
     public void reiniciarArregloCadenas( List<Object> objetos )
     {
-    	ArrayList<String> nuevoArray = new ArrayList<String>();
+    	List<String> nuevaLista = crearListaCadenas(getAlmacenamientoCadenas(), objetos.size());
     	for (Object elemento:objetos)
     	{
-    		nuevoArray.add(elemento.toString());
+    		nuevaLista.add(elemento.toString());
     	}
-    	listaCadenas = nuevoArray;
+    	listaCadenas = nuevaLista;
     }
 
     /**
@@ -219,15 +319,28 @@ public class SandboxListas
      */
     public void volverPositivos( )
     {
-    	for (int i=0;i<listaEnteros.size();i++)
-    	{
-    		int elemento = listaEnteros.get(i);
-    		if (elemento<0)
-    		{
-    			listaEnteros.remove(i);
-    			listaEnteros.add(i, (-1)*elemento);
-    		}
-    	}
+    	transformarEnteros(elemento -> elemento < 0 ? (-1)*elemento : elemento);
+    }
+
+    /**
+     * Reemplaza cada valor de la lista de enteros por el resultado de aplicarle una operación, sin cambiar el tamaño ni el orden de la lista.
+     * 
+     * Las posiciones se procesan secuencialmente, de la primera a la última. Para procesarlas en paralelo se debe usar transformarEnteros(operacion, true).
+     * @param operacion La operación que calcula el nuevo valor a partir del valor actual
+     */
+    public void transformarEnteros( IntUnaryOperator operacion )
+    {
+    	transformarEnteros(operacion, false);
+    }
+
+    /**
+     * Reemplaza cada valor de la lista de enteros por el resultado de aplicarle una operación, sin cambiar el tamaño ni el orden de la lista.
+     * @param operacion La operación que calcula el nuevo valor a partir del valor actual
+     * @param paralelo Indica si las posiciones se deben procesar en paralelo. En ese caso la operación no debe depender del orden en el que se aplica.
+     */
+    public void transformarEnteros( IntUnaryOperator operacion, boolean paralelo )
+    {
+    	listaEnteros.transformar(operacion, paralelo);
     }
 
     /**
@@ -235,7 +348,8 @@ public class SandboxListas
      */
     public void organizarEnteros( )
     {
-    	Collections.sort(listaEnteros,Collections.reverseOrder());
+    	listaEnteros.ordenar();
+    	listaEnteros.invertir();
     }
 
     /**
@@ -253,15 +367,7 @@ public class SandboxListas
      */
     public int contarApariciones( int valor )
     {
-    	int conteo = 0;
-    	for (int elemento:listaEnteros)
-    	{
-    		if (elemento==valor)
-    		{
-    			conteo++;
-    		}
-    	}
-        return conteo;
+        return listaEnteros.contarApariciones(valor);
     }
 
     /**
@@ -273,15 +379,7 @@ public class SandboxListas
      */
     public int contarApariciones( String cadena )
     {
-    	int conteo = 0;
-    	for (String elemento:listaCadenas)
-    	{
-    		if ((elemento.toLowerCase()).equals(cadena.toLowerCase()))
-    		{
-    			conteo++;
-    		}
-    	}
-        return conteo;
+        return ComparacionCadenas.contarSinMayusculas(listaCadenas, cadena);
     }
 
     /**
@@ -290,23 +388,26 @@ public class SandboxListas
      */
     public int contarEnterosRepetidos( )
     {
-    	int conteo = 0;
-    	ArrayList<Integer> listaSinRepeticion = new ArrayList<Integer>();
-    	for (Integer elemento:listaEnteros)
-    	{
-    		if (!(listaSinRepeticion.contains(elemento)))
-    		{
-    			listaSinRepeticion.add(elemento);
-    		}
-    	}
-    	for (int elemento:listaSinRepeticion)
-    	{
-    		if (contarApariciones(elemento)>1)
-    		{
-    			conteo++;
-    		}
-    	}
-        return conteo;
+        return calcularFrecuencias().contarRepetidos();
+    }
+
+    /**
+     * Calcula la tabla de frecuencias de la lista de enteros, es decir cuántas veces aparece cada valor, recorriendo la lista una sola vez.
+     * @return El histograma con la cantidad de apariciones de cada valor
+     */
+    public HistogramaEnteros calcularFrecuencias( )
+    {
+        return listaEnteros.calcularHistograma();
+    }
+
+    /**
+     * Busca los valores que aparecen más veces en la lista de enteros.
+     * @param k La cantidad máxima de valores que se deben retornar
+     * @return Los k valores más frecuentes, ordenados de mayor a menor cantidad de apariciones. Si dos valores aparecen la misma cantidad de veces, queda primero el menor.
+     */
+    public int[] getMasFrecuentes( int k )
+    {
+        return calcularFrecuencias().getMasFrecuentes(k);
     }
 
     /**
@@ -316,27 +417,13 @@ public class SandboxListas
      */
     public boolean compararArregloEnteros( int[] otroArreglo )
     {
-    	boolean diferente = false;
-    	boolean respuesta = false;
-    	Integer [] arregloEnteros = listaEnteros.toArray(new Integer[listaEnteros.size()]);
-    	for (int i=0; (i<arregloEnteros.length)&&(!diferente);i++)
-    	{
-    		if ((int)arregloEnteros[i]!=otroArreglo[i])
-    		{
-    			diferente = true;
-    		}
-    	}
-    	if (diferente == false)
-    	{
-    		respuesta = true;
-    	}
-        return respuesta;
+        return listaEnteros.esIgualA(otroArreglo);
     }
 
     /**
      * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria.
      * 
-     * Para generar los valores se debe partir de una distribución uniforme usando Math.random().
+     * Los valores siguen una distribución uniforme y se producen con un GeneradorEnteros nuevo.
      * 
      * Los números en la lista deben quedar entre el valor mínimo y el máximo.
      * @param cantidad La cantidad de elementos que debe haber en la lista
@@ -345,13 +432,51 @@ public class SandboxListas
      */
     public void generarEnteros( int cantidad, int minimo, int maximo )
     {
-    	ArrayList<Integer> nuevaLista = new ArrayList<Integer>();
-    	for (int i=0; i<cantidad;i++)
-    	{
-    		int numAleatorio = (int)(Math.random()*((maximo-minimo)+1)+minimo);
-    		nuevaLista.add(numAleatorio);
-    	}
-    	listaEnteros = nuevaLista;
+    	generarEnteros(cantidad, minimo, maximo, new GeneradorEnteros());
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria con el generador indicado.
+     * 
+     * Los valores se escriben directamente en el arreglo de la nueva lista, sin convertirlos a Integer, en el hilo actual. Para generarlos en paralelo se debe usar
+     * generarEnteros(cantidad, minimo, maximo, generador, pool).
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param generador El generador de los valores. Si se creó con una semilla, la serie se puede reproducir.
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, GeneradorEnteros generador )
+    {
+    	generarEnteros(cantidad, minimo, maximo, generador, null);
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria con el generador indicado, llenando la lista en paralelo
+     * en el pool de hilos indicado.
+     * 
+     * La serie generada es la misma que se obtendría en un solo hilo con el mismo generador.
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param generador El generador de los valores. Si se creó con una semilla, la serie se puede reproducir.
+     * @param pool El pool de hilos donde se generan los valores, o null para generarlos en el hilo actual
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, GeneradorEnteros generador, ForkJoinPool pool )
+    {
+    	listaEnteros = new ListaEnteros(generador.generar(cantidad, minimo, maximo, pool));
+    }
+
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores diferentes generada de forma aleatoria con el generador indicado.
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param generador El generador de los valores
+     * @throws IllegalArgumentException Si entre el mínimo y el máximo hay menos valores diferentes que la cantidad pedida
+     */
+    public void generarEnterosDistintos( int cantidad, int minimo, int maximo, GeneradorEnteros generador )
+    {
+    	listaEnteros = new ListaEnteros(generador.generarDistintos(cantidad, minimo, maximo));
     }
 
 }
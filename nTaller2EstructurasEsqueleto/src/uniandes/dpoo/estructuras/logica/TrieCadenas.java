@@ -0,0 +1,965 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Esta clase es un trie comprimido (radix trie) de cadenas: cada nodo guarda el fragmento de cadena que lo separa de su padre, así que los prefijos que comparten
+ * varias cadenas se guardan una sola vez y las cadenas no se guardan como objetos String.
+ *
+ * Los hijos de cada nodo están ordenados por el primer caracter de su fragmento, de modo que recorrer el trie en preorden produce las cadenas en el mismo orden de
+ * String.compareTo. Cada nodo sabe además cuántas cadenas hay en su subárbol, lo que permite calcular la posición de una cadena sin recorrer las anteriores.
+ *
+ * Para ahorrar memoria, las hojas (que son la mayoría de los nodos) no son objetos Nodo: en el arreglo de hijos de su padre se guarda directamente su fragmento, como
+ * un char[]. Una hoja siempre corresponde a una cadena del trie.
+ *
+ * Todas las operaciones toman un tiempo proporcional a la longitud de la cadena (más una búsqueda binaria entre los hijos de cada nodo), sin importar cuántas cadenas
+ * tenga el trie.
+ */
+final class TrieCadenas
+{
+    /**
+     * Fragmento vacío que se usa para la raíz
+     */
+    private static final char[] SIN_FRAGMENTO = new char[0];
+
+    /**
+     * Un nodo del trie que tiene hijos (o la raíz)
+     */
+    private static final class Nodo
+    {
+        /**
+         * Los caracteres que separan a este nodo de su padre. Sólo la raíz tiene un fragmento vacío.
+         */
+        char[] fragmento;
+
+        /**
+         * Indica si el camino desde la raíz hasta este nodo es una de las cadenas del trie. Los nodos que no son terminales siempre tienen al menos dos hijos, y los
+         * que son terminales al menos uno (salvo la raíz).
+         */
+        boolean terminal;
+
+        /**
+         * Los hijos del nodo, ordenados por el primer caracter de su fragmento. Cada hijo es un Nodo o, si es una hoja, el char[] con su fragmento. Sólo las primeras
+         * 'cantidadHijos' posiciones están ocupadas.
+         */
+        Object[] hijos;
+
+        /**
+         * La cantidad de hijos del nodo
+         */
+        int cantidadHijos;
+
+        /**
+         * La cantidad de cadenas en el subárbol de este nodo, incluyendo la del nodo si es terminal
+         */
+        int cantidadCadenas;
+
+        /**
+         * Crea un nodo sin hijos
+         * @param fragmento Los caracteres que separan al nodo de su padre
+         */
+        Nodo( char[] fragmento )
+        {
+            this.fragmento = fragmento;
+        }
+    }
+
+    /**
+     * La raíz del trie. Su camino es la cadena vacía.
+     */
+    private Nodo raiz;
+
+    /**
+     * Contador que aumenta cada vez que el trie cambia. Los recorridos lo usan para saber si tienen que volver a ubicarse.
+     */
+    private int version;
+
+    /**
+     * Crea un trie vacío
+     */
+    TrieCadenas( )
+    {
+        raiz = new Nodo( SIN_FRAGMENTO );
+    }
+
+    /**
+     * Retorna la cantidad de cadenas en el trie
+     * @return La cantidad de cadenas
+     */
+    int getCantidad( )
+    {
+        return raiz.cantidadCadenas;
+    }
+
+    /**
+     * Elimina todas las cadenas del trie
+     */
+    void limpiar( )
+    {
+        raiz = new Nodo( SIN_FRAGMENTO );
+        version++;
+    }
+
+    /**
+     * Retorna el fragmento de un hijo
+     * @param hijo El hijo, que puede ser un Nodo o una hoja
+     * @return El fragmento del hijo
+     */
+    private static char[] fragmentoDe( Object hijo )
+    {
+        return hijo instanceof Nodo ? ( ( Nodo )hijo ).fragmento : ( char[] )hijo;
+    }
+
+    /**
+     * Retorna la cantidad de cadenas en el subárbol de un hijo
+     * @param hijo El hijo, que puede ser un Nodo o una hoja
+     * @return La cantidad de cadenas del subárbol
+     */
+    private static int cantidadDe( Object hijo )
+    {
+        return hijo instanceof Nodo ? ( ( Nodo )hijo ).cantidadCadenas : 1;
+    }
+
+    /**
+     * Cambia el fragmento de un hijo
+     * @param hijo El hijo, que puede ser un Nodo o una hoja
+     * @param fragmento El nuevo fragmento
+     * @return El hijo que debe quedar en el arreglo de hijos de su padre
+     */
+    private static Object conFragmento( Object hijo, char[] fragmento )
+    {
+        if( hijo instanceof Nodo )
+        {
+            ( ( Nodo )hijo ).fragmento = fragmento;
+            return hijo;
+        }
+        return fragmento;
+    }
+
+    /**
+     * Agrega al final de un prefijo las primeras posiciones de una cadena
+     * @param cadena La cadena
+     * @param longitud La cantidad de caracteres que se deben copiar
+     * @return Un StringBuilder con los caracteres copiados
+     */
+    private static StringBuilder prefijo( String cadena, int longitud )
+    {
+        return new StringBuilder( cadena.length( ) + 16 ).append( cadena, 0, longitud );
+    }
+
+    /**
+     * Busca entre los hijos de un nodo el que empieza por un caracter
+     * @param nodo El nodo donde se busca
+     * @param caracter El primer caracter del fragmento buscado
+     * @return La posición del hijo, o -(posición donde debería insertarse + 1) si no hay ningún hijo que empiece por el caracter
+     */
+    private static int buscarHijo( Nodo nodo, char caracter )
+    {
+        int inicio = 0;
+        int fin = nodo.cantidadHijos - 1;
+        while( inicio <= fin )
+        {
+            int medio = ( inicio + fin ) >>> 1;
+            char primero = fragmentoDe( nodo.hijos[ medio ] )[ 0 ];
+            if( primero < caracter )
+            {
+                inicio = medio + 1;
+            }
+            else if( primero > caracter )
+            {
+                fin = medio - 1;
+            }
+            else
+            {
+                return medio;
+            }
+        }
+        return -( inicio + 1 );
+    }
+
+    /**
+     * Inserta un hijo en una posición de un nodo, desplazando los siguientes
+     * @param nodo El nodo padre
+     * @param posicion La posición donde debe quedar el hijo
+     * @param hijo El nuevo hijo
+     */
+    private static void insertarHijo( Nodo nodo, int posicion, Object hijo )
+    {
+        if( nodo.hijos == null )
+        {
+            nodo.hijos = new Object[2];
+        }
+        else if( nodo.cantidadHijos == nodo.hijos.length )
+        {
+            nodo.hijos = Arrays.copyOf( nodo.hijos, nodo.cantidadHijos + ( nodo.cantidadHijos >> 1 ) + 1 );
+        }
+        System.arraycopy( nodo.hijos, posicion, nodo.hijos, posicion + 1, nodo.cantidadHijos - posicion );
+        nodo.hijos[ posicion ] = hijo;
+        nodo.cantidadHijos++;
+    }
+
+    /**
+     * Elimina el hijo que está en una posición de un nodo, desplazando los siguientes
+     * @param nodo El nodo padre
+     * @param posicion La posición del hijo
+     */
+    private static void eliminarHijo( Nodo nodo, int posicion )
+    {
+        System.arraycopy( nodo.hijos, posicion + 1, nodo.hijos, posicion, nodo.cantidadHijos - posicion - 1 );
+        nodo.cantidadHijos--;
+        nodo.hijos[ nodo.cantidadHijos ] = null;
+        if( nodo.cantidadHijos == 0 )
+        {
+            nodo.hijos = null;
+        }
+    }
+
+    /**
+     * Restablece la forma compacta del trie en un hijo después de eliminar una cadena: un nodo terminal sin hijos se vuelve hoja, un nodo que no es terminal y tiene
+     * un solo hijo se une con ese hijo y un nodo que no es terminal y no tiene hijos se elimina.
+     * @param padre El padre del nodo
+     * @param posicion La posición del nodo entre los hijos del padre
+     * @return True si el nodo se eliminó del padre
+     */
+    private static boolean compactar( Nodo padre, int posicion )
+    {
+        Nodo nodo = ( Nodo )padre.hijos[ posicion ];
+        if( nodo.cantidadHijos == 0 )
+        {
+            if( !nodo.terminal )
+            {
+                eliminarHijo( padre, posicion );
+                return true;
+            }
+            padre.hijos[ posicion ] = nodo.fragmento;
+        }
+        else if( !nodo.terminal && nodo.cantidadHijos == 1 )
+        {
+            Object hijo = nodo.hijos[ 0 ];
+            char[] fragmentoHijo = fragmentoDe( hijo );
+            char[] fragmento = Arrays.copyOf( nodo.fragmento, nodo.fragmento.length + fragmentoHijo.length );
+            System.arraycopy( fragmentoHijo, 0, fragmento, nodo.fragmento.length, fragmentoHijo.length );
+            padre.hijos[ posicion ] = conFragmento( hijo, fragmento );
+        }
+        return false;
+    }
+
+    /**
+     * Calcula cuántos caracteres coinciden entre un fragmento y una cadena a partir de una posición
+     * @param fragmento El fragmento
+     * @param cadena La cadena
+     * @param desde La posición de la cadena donde empieza la comparación
+     * @return La cantidad de caracteres iguales al inicio del fragmento
+     */
+    private static int contarComunes( char[] fragmento, String cadena, int desde )
+    {
+        int maximo = Math.min( fragmento.length, cadena.length( ) - desde );
+        int comunes = 0;
+        while( comunes < maximo && fragmento[ comunes ] == cadena.charAt( desde + comunes ) )
+        {
+            comunes++;
+        }
+        return comunes;
+    }
+
+    /**
+     * Indica si una cadena está en el trie
+     * @param cadena La cadena buscada
+     * @return True si la cadena está en el trie
+     */
+    boolean contiene( String cadena )
+    {
+        Nodo nodo = raiz;
+        int posicion = 0;
+        while( posicion < cadena.length( ) )
+        {
+            int indice = buscarHijo( nodo, cadena.charAt( posicion ) );
+            if( indice < 0 )
+            {
+                return false;
+            }
+            Object hijo = nodo.hijos[ indice ];
+            char[] fragmento = fragmentoDe( hijo );
+            if( contarComunes( fragmento, cadena, posicion ) != fragmento.length )
+            {
+                return false;
+            }
+            posicion += fragmento.length;
+            if( !( hijo instanceof Nodo ) )
+            {
+                return posicion == cadena.length( );
+            }
+            nodo = ( Nodo )hijo;
+        }
+        return nodo.terminal;
+    }
+
+    /**
+     * Agrega una cadena al trie
+     * @param cadena La cadena que se va a agregar
+     * @return True si la cadena no estaba en el trie
+     */
+    boolean agregar( String cadena )
+    {
+        if( contiene( cadena ) )
+        {
+            return false;
+        }
+        version++;
+        Nodo nodo = raiz;
+        nodo.cantidadCadenas++;
+        int posicion = 0;
+        while( posicion < cadena.length( ) )
+        {
+            int indice = buscarHijo( nodo, cadena.charAt( posicion ) );
+            if( indice < 0 )
+            {
+                insertarHijo( nodo, -indice - 1, cadena.substring( posicion ).toCharArray( ) );
+                return true;
+            }
+            Object hijo = nodo.hijos[ indice ];
+            char[] fragmento = fragmentoDe( hijo );
+            int comunes = contarComunes( fragmento, cadena, posicion );
+            Nodo siguiente;
+            if( comunes < fragmento.length )
+            {
+                // La cadena se separa del hijo en la mitad de su fragmento: se parte el fragmento con un nodo intermedio
+                siguiente = new Nodo( Arrays.copyOf( fragmento, comunes ) );
+                siguiente.cantidadCadenas = cantidadDe( hijo );
+                siguiente.hijos = new Object[]{ conFragmento( hijo, Arrays.copyOfRange( fragmento, comunes, fragmento.length ) ), null };
+                siguiente.cantidadHijos = 1;
+                nodo.hijos[ indice ] = siguiente;
+            }
+            else if( hijo instanceof Nodo )
+            {
+                siguiente = ( Nodo )hijo;
+            }
+            else
+            {
+                // La cadena continúa después de una hoja: la hoja se vuelve un nodo terminal
+                siguiente = new Nodo( fragmento );
+                siguiente.terminal = true;
+                siguiente.cantidadCadenas = 1;
+                nodo.hijos[ indice ] = siguiente;
+            }
+            siguiente.cantidadCadenas++;
+            nodo = siguiente;
+            posicion += comunes;
+        }
+        nodo.terminal = true;
+        return true;
+    }
+
+    /**
+     * Elimina una cadena del trie
+     * @param cadena La cadena que se va a eliminar
+     * @return True si la cadena estaba en el trie
+     */
+    boolean eliminar( String cadena )
+    {
+        if( !contiene( cadena ) )
+        {
+            return false;
+        }
+        version++;
+        Nodo abuelo = null;
+        Nodo padre = null;
+        Nodo nodo = raiz;
+        int indicePadre = -1;
+        int indiceNodo = -1;
+        nodo.cantidadCadenas--;
+        int posicion = 0;
+        while( posicion < cadena.length( ) )
+        {
+            int indice = buscarHijo( nodo, cadena.charAt( posicion ) );
+            Object hijo = nodo.hijos[ indice ];
+            posicion += fragmentoDe( hijo ).length;
+            if( !( hijo instanceof Nodo ) )
+            {
+                // La cadena es una hoja: se quita y se compacta su padre
+                eliminarHijo( nodo, indice );
+                if( padre != null )
+                {
+                    compactar( padre, indiceNodo );
+                }
+                return true;
+            }
+            abuelo = padre;
+            indicePadre = indiceNodo;
+            padre = nodo;
+            indiceNodo = indice;
+            nodo = ( Nodo )hijo;
+            nodo.cantidadCadenas--;
+        }
+        nodo.terminal = false;
+        if( padre != null && compactar( padre, indiceNodo ) && abuelo != null )
+        {
+            compactar( abuelo, indicePadre );
+        }
+        return true;
+    }
+
+    /**
+     * Construye la menor cadena del subárbol de un hijo
+     * @param prefijo El camino hasta el padre del hijo, que se completa con el resultado
+     * @param hijo El hijo
+     * @return La menor cadena del subárbol
+     */
+    private static String menorDesde( StringBuilder prefijo, Object hijo )
+    {
+        Object actual = hijo;
+        prefijo.append( fragmentoDe( actual ) );
+        while( actual instanceof Nodo && !( ( Nodo )actual ).terminal )
+        {
+            actual = ( ( Nodo )actual ).hijos[ 0 ];
+            prefijo.append( fragmentoDe( actual ) );
+        }
+        return prefijo.toString( );
+    }
+
+    /**
+     * Construye la mayor cadena del subárbol de un hijo
+     * @param prefijo El camino hasta el padre del hijo, que se completa con el resultado
+     * @param hijo El hijo
+     * @return La mayor cadena del subárbol
+     */
+    private static String mayorDesde( StringBuilder prefijo, Object hijo )
+    {
+        Object actual = hijo;
+        prefijo.append( fragmentoDe( actual ) );
+        while( actual instanceof Nodo && ( ( Nodo )actual ).cantidadHijos > 0 )
+        {
+            Nodo nodo = ( Nodo )actual;
+            actual = nodo.hijos[ nodo.cantidadHijos - 1 ];
+            prefijo.append( fragmentoDe( actual ) );
+        }
+        return prefijo.toString( );
+    }
+
+    /**
+     * Retorna la menor cadena del trie
+     * @return La menor cadena, o null si el trie está vacío
+     */
+    String getPrimera( )
+    {
+        if( raiz.cantidadCadenas == 0 )
+        {
+            return null;
+        }
+        return menorDesde( new StringBuilder( ), raiz );
+    }
+
+    /**
+     * Retorna la mayor cadena del trie
+     * @return La mayor cadena, o null si el trie está vacío
+     */
+    String getUltima( )
+    {
+        if( raiz.cantidadCadenas == 0 )
+        {
+            return null;
+        }
+        return mayorDesde( new StringBuilder( ), raiz );
+    }
+
+    /**
+     * Busca la menor cadena del trie que es mayor (o igual) a una cadena dada.
+     *
+     * El trie se recorre siguiendo la cadena. Mientras se baja, se recuerda el hermano siguiente más profundo que se encontró: si la cadena se acaba o se separa del
+     * trie sin que aparezca un candidato más cercano, la respuesta es la menor cadena de ese hermano.
+     * @param cadena La cadena de referencia
+     * @param inclusivo Indica si la cadena misma puede ser la respuesta
+     * @return La cadena encontrada, o null si no hay ninguna
+     */
+    String buscarTecho( String cadena, boolean inclusivo )
+    {
+        Nodo nodo = raiz;
+        int posicion = 0;
+        Nodo padreAlterno = null;
+        int hijoAlterno = -1;
+        int posicionAlterna = 0;
+        while( true )
+        {
+            if( posicion == cadena.length( ) )
+            {
+                if( inclusivo && nodo.terminal )
+                {
+                    return cadena;
+                }
+                if( nodo.cantidadHijos > 0 )
+                {
+                    return menorDesde( prefijo( cadena, posicion ), nodo.hijos[ 0 ] );
+                }
+                break;
+            }
+            int indice = buscarHijo( nodo, cadena.charAt( posicion ) );
+            if( indice < 0 )
+            {
+                int siguiente = -indice - 1;
+                if( siguiente < nodo.cantidadHijos )
+                {
+                    return menorDesde( prefijo( cadena, posicion ), nodo.hijos[ siguiente ] );
+                }
+                break;
+            }
+            Object hijo = nodo.hijos[ indice ];
+            char[] fragmento = fragmentoDe( hijo );
+            int comunes = contarComunes( fragmento, cadena, posicion );
+            if( comunes == fragmento.length )
+            {
+                if( indice + 1 < nodo.cantidadHijos )
+                {
+                    padreAlterno = nodo;
+                    hijoAlterno = indice + 1;
+                    posicionAlterna = posicion;
+                }
+                posicion += comunes;
+                if( !( hijo instanceof Nodo ) )
+                {
+                    // Una hoja no tiene cadenas mayores en su subárbol: sólo sirve si es la cadena misma
+                    if( inclusivo && posicion == cadena.length( ) )
+                    {
+                        return cadena;
+                    }
+                    break;
+                }
+                nodo = ( Nodo )hijo;
+            }
+            else if( posicion + comunes == cadena.length( ) || fragmento[ comunes ] > cadena.charAt( posicion + comunes ) )
+            {
+                // Todas las cadenas del subárbol del hijo son mayores que la cadena
+                return menorDesde( prefijo( cadena, posicion ), hijo );
+            }
+            else
+            {
+                // Todas las cadenas del subárbol del hijo son menores que la cadena
+                if( indice + 1 < nodo.cantidadHijos )
+                {
+                    return menorDesde( prefijo( cadena, posicion ), nodo.hijos[ indice + 1 ] );
+                }
+                break;
+            }
+        }
+        if( padreAlterno == null )
+        {
+            return null;
+        }
+        return menorDesde( prefijo( cadena, posicionAlterna ), padreAlterno.hijos[ hijoAlterno ] );
+    }
+
+    /**
+     * Busca la mayor cadena del trie que es menor (o igual) a una cadena dada.
+     *
+     * Funciona igual que buscarTecho, pero el candidato que se recuerda mientras se baja es el hermano anterior más profundo o, si no hay, el nodo actual cuando es
+     * terminal (su cadena es un prefijo de la cadena de referencia, así que es menor).
+     * @param cadena La cadena de referencia
+     * @param inclusivo Indica si la cadena misma puede ser la respuesta
+     * @return La cadena encontrada, o null si no hay ninguna
+     */
+    String buscarPiso( String cadena, boolean inclusivo )
+    {
+        Nodo nodo = raiz;
+        int posicion = 0;
+        Nodo padreAlterno = null;
+        int hijoAlterno = -1;
+        int posicionAlterna = 0;
+        while( posicion < cadena.length( ) )
+        {
+            int indice = buscarHijo( nodo, cadena.charAt( posicion ) );
+            int anterior = indice < 0 ? -indice - 2 : indice - 1;
+            if( anterior >= 0 )
+            {
+                padreAlterno = nodo;
+                hijoAlterno = anterior;
+                posicionAlterna = posicion;
+            }
+            else if( nodo.terminal )
+            {
+                padreAlterno = nodo;
+                hijoAlterno = -1;
+                posicionAlterna = posicion;
+            }
+            if( indice < 0 )
+            {
+                break;
+            }
+            Object hijo = nodo.hijos[ indice ];
+            char[] fragmento = fragmentoDe( hijo );
+            int comunes = contarComunes( fragmento, cadena, posicion );
+            if( comunes == fragmento.length )
+            {
+                posicion += comunes;
+                if( !( hijo instanceof Nodo ) )
+                {
+                    if( posicion < cadena.length( ) )
+                    {
+                        // La hoja es un prefijo de la cadena y no tiene nada debajo: es la mayor cadena menor
+                        return cadena.substring( 0, posicion );
+                    }
+                    if( inclusivo )
+                    {
+                        return cadena;
+                    }
+                    break;
+                }
+                nodo = ( Nodo )hijo;
+            }
+            else
+            {
+                if( posicion + comunes < cadena.length( ) && fragmento[ comunes ] < cadena.charAt( posicion + comunes ) )
+                {
+                    // Todas las cadenas del subárbol del hijo son menores que la cadena
+                    return mayorDesde( prefijo( cadena, posicion ), hijo );
+                }
+                break;
+            }
+        }
+        if( inclusivo && posicion == cadena.length( ) && nodo.terminal )
+        {
+            return cadena;
+        }
+        if( padreAlterno == null )
+        {
+            return null;
+        }
+        if( hijoAlterno < 0 )
+        {
+            return cadena.substring( 0, posicionAlterna );
+        }
+        return mayorDesde( prefijo( cadena, posicionAlterna ), padreAlterno.hijos[ hijoAlterno ] );
+    }
+
+    /**
+     * Cuenta cuántas cadenas del trie son menores que una cadena dada, sumando los tamaños de los subárboles que quedan a la izquierda del camino de la cadena
+     * @param cadena La cadena de referencia
+     * @return La cantidad de cadenas menores
+     */
+    int contarMenores( String cadena )
+    {
+        Nodo nodo = raiz;
+        int posicion = 0;
+        int conteo = 0;
+        while( posicion < cadena.length( ) )
+        {
+            if( nodo.terminal )
+            {
+                conteo++;
+            }
+            int indice = buscarHijo( nodo, cadena.charAt( posicion ) );
+            int anteriores = indice < 0 ? -indice - 1 : indice;
+            for( int i = 0; i < anteriores; i++ )
+            {
+                conteo += cantidadDe( nodo.hijos[ i ] );
+            }
+            if( indice < 0 )
+            {
+                break;
+            }
+            Object hijo = nodo.hijos[ indice ];
+            char[] fragmento = fragmentoDe( hijo );
+            int comunes = contarComunes( fragmento, cadena, posicion );
+            if( comunes == fragmento.length )
+            {
+                posicion += comunes;
+                if( !( hijo instanceof Nodo ) )
+                {
+                    if( posicion < cadena.length( ) )
+                    {
+                        conteo++;
+                    }
+                    break;
+                }
+                nodo = ( Nodo )hijo;
+            }
+            else
+            {
+                if( posicion + comunes < cadena.length( ) && fragmento[ comunes ] < cadena.charAt( posicion + comunes ) )
+                {
+                    conteo += cantidadDe( hijo );
+                }
+                break;
+            }
+        }
+        return conteo;
+    }
+
+    /**
+     * Agrega a una lista las cadenas del trie que son iguales a una cadena dada sin diferenciar entre mayúsculas y minúsculas.
+     *
+     * Sólo se recorren las ramas del trie cuyos fragmentos coinciden con la cadena, así que el costo depende de la longitud de la cadena y no de la cantidad de cadenas.
+     * @param cadena La cadena buscada
+     * @param encontradas La lista donde se agregan las cadenas encontradas, en orden
+     */
+    void buscarSinMayusculas( String cadena, List<String> encontradas )
+    {
+        buscarSinMayusculas( raiz, cadena, 0, new StringBuilder( ), encontradas );
+    }
+
+    /**
+     * Busca las cadenas iguales a una cadena dada, sin diferenciar entre mayúsculas y minúsculas, en el subárbol de un nodo
+     * @param nodo El nodo donde se busca
+     * @param cadena La cadena buscada
+     * @param posicion La cantidad de caracteres de la cadena que ya coinciden con el camino hasta el nodo
+     * @param camino El camino desde la raíz hasta el nodo
+     * @param encontradas La lista donde se agregan las cadenas encontradas
+     */
+    private static void buscarSinMayusculas( Nodo nodo, String cadena, int posicion, StringBuilder camino, List<String> encontradas )
+    {
+        if( posicion == cadena.length( ) )
+        {
+            if( nodo.terminal )
+            {
+                encontradas.add( camino.toString( ) );
+            }
+            return;
+        }
+        for( int i = 0; i < nodo.cantidadHijos; i++ )
+        {
+            Object hijo = nodo.hijos[ i ];
+            char[] fragmento = fragmentoDe( hijo );
+            if( posicion + fragmento.length <= cadena.length( ) && cadena.regionMatches( true, posicion, new String( fragmento ), 0, fragmento.length ) )
+            {
+                int longitud = camino.length( );
+                camino.append( fragmento );
+                if( hijo instanceof Nodo )
+                {
+                    buscarSinMayusculas( ( Nodo )hijo, cadena, posicion + fragmento.length, camino, encontradas );
+                }
+                else if( posicion + fragmento.length == cadena.length( ) )
+                {
+                    encontradas.add( camino.toString( ) );
+                }
+                camino.setLength( longitud );
+            }
+        }
+    }
+
+    /**
+     * Crea un recorrido del trie que empieza en una de sus cadenas
+     * @param inicio La cadena donde empieza el recorrido. Debe estar en el trie.
+     * @param ascendente Indica si el recorrido avanza de menor a mayor
+     * @return El recorrido, ubicado sobre la cadena de inicio
+     */
+    Recorrido recorrer( String inicio, boolean ascendente )
+    {
+        return new Recorrido( inicio, ascendente );
+    }
+
+    /**
+     * Un recorrido del trie en orden (ascendente o descendente) a partir de una cadena.
+     *
+     * El recorrido guarda el camino desde la raíz hasta la última cadena que retornó, con la posición del siguiente hijo por visitar en cada nivel, así que avanzar a
+     * la siguiente cadena toma tiempo constante amortizado (más el costo de construir la cadena). Si el trie cambia, el recorrido se vuelve a ubicar a partir de la
+     * última cadena que retornó.
+     */
+    final class Recorrido
+    {
+        /**
+         * Indica si el recorrido avanza de menor a mayor
+         */
+        private final boolean ascendente;
+
+        /**
+         * Los nodos del camino que todavía tienen hijos por visitar (o que falta retornar, en un recorrido descendente)
+         */
+        private Nodo[] nodos;
+
+        /**
+         * Para cada nodo del camino, la posición del siguiente hijo por visitar
+         */
+        private int[] siguientes;
+
+        /**
+         * Para cada nodo del camino, la longitud de su cadena
+         */
+        private int[] longitudes;
+
+        /**
+         * La cantidad de nodos en el camino
+         */
+        private int profundidad;
+
+        /**
+         * El camino desde la raíz hasta la última cadena retornada
+         */
+        private final StringBuilder camino;
+
+        /**
+         * La última cadena retornada, o null si el recorrido terminó
+         */
+        private String ultima;
+
+        /**
+         * La versión del trie para la que es válido el camino
+         */
+        private int versionRecorrido;
+
+        /**
+         * Crea un recorrido ubicado sobre una cadena del trie
+         * @param inicio La cadena donde empieza el recorrido
+         * @param ascendente Indica si el recorrido avanza de menor a mayor
+         */
+        private Recorrido( String inicio, boolean ascendente )
+        {
+            this.ascendente = ascendente;
+            nodos = new Nodo[16];
+            siguientes = new int[16];
+            longitudes = new int[16];
+            camino = new StringBuilder( );
+            ubicar( inicio );
+        }
+
+        /**
+         * Agrega un nodo al camino
+         * @param nodo El nodo
+         * @param siguiente La posición del siguiente hijo por visitar
+         * @param longitud La longitud de la cadena del nodo
+         */
+        private void apilar( Nodo nodo, int siguiente, int longitud )
+        {
+            if( profundidad == nodos.length )
+            {
+                nodos = Arrays.copyOf( nodos, profundidad * 2 );
+                siguientes = Arrays.copyOf( siguientes, profundidad * 2 );
+                longitudes = Arrays.copyOf( longitudes, profundidad * 2 );
+            }
+            nodos[ profundidad ] = nodo;
+            siguientes[ profundidad ] = siguiente;
+            longitudes[ profundidad ] = longitud;
+            profundidad++;
+        }
+
+        /**
+         * Construye el camino hasta una cadena del trie
+         * @param cadena La cadena, que debe estar en el trie
+         */
+        private void ubicar( String cadena )
+        {
+            profundidad = 0;
+            camino.setLength( 0 );
+            camino.append( cadena );
+            ultima = cadena;
+            versionRecorrido = version;
+            Nodo nodo = raiz;
+            int posicion = 0;
+            while( posicion < cadena.length( ) )
+            {
+                int indice = buscarHijo( nodo, cadena.charAt( posicion ) );
+                apilar( nodo, ascendente ? indice + 1 : indice - 1, posicion );
+                Object hijo = nodo.hijos[ indice ];
+                posicion += fragmentoDe( hijo ).length;
+                if( !( hijo instanceof Nodo ) )
+                {
+                    return;
+                }
+                nodo = ( Nodo )hijo;
+            }
+            if( ascendente )
+            {
+                // En orden ascendente, los hijos de la cadena son los siguientes
+                apilar( nodo, 0, posicion );
+            }
+        }
+
+        /**
+         * Avanza a la siguiente cadena del recorrido
+         * @return La siguiente cadena, o null si no hay más
+         */
+        String avanzar( )
+        {
+            if( ultima == null )
+            {
+                return null;
+            }
+            if( versionRecorrido != version )
+            {
+                String siguiente = ascendente ? buscarTecho( ultima, false ) : buscarPiso( ultima, false );
+                if( siguiente == null )
+                {
+                    ultima = null;
+                }
+                else
+                {
+                    ubicar( siguiente );
+                }
+                return siguiente;
+            }
+            ultima = ascendente ? avanzarAscendente( ) : avanzarDescendente( );
+            return ultima;
+        }
+
+        /**
+         * Busca la siguiente cadena en preorden
+         * @return La siguiente cadena, o null si no hay más
+         */
+        private String avanzarAscendente( )
+        {
+            while( profundidad > 0 )
+            {
+                int tope = profundidad - 1;
+                Nodo nodo = nodos[ tope ];
+                if( siguientes[ tope ] < nodo.cantidadHijos )
+                {
+                    Object hijo = nodo.hijos[ siguientes[ tope ] ];
+                    siguientes[ tope ]++;
+                    camino.setLength( longitudes[ tope ] );
+                    camino.append( fragmentoDe( hijo ) );
+                    if( !( hijo instanceof Nodo ) )
+                    {
+                        return camino.toString( );
+                    }
+                    Nodo nodoHijo = ( Nodo )hijo;
+                    apilar( nodoHijo, 0, camino.length( ) );
+                    if( nodoHijo.terminal )
+                    {
+                        return camino.toString( );
+                    }
+                }
+                else
+                {
+                    profundidad--;
+                    nodos[ profundidad ] = null;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Busca la siguiente cadena en preorden inverso (primero los hijos, de derecha a izquierda, y después el nodo)
+         * @return La siguiente cadena, o null si no hay más
+         */
+        private String avanzarDescendente( )
+        {
+            while( profundidad > 0 )
+            {
+                int tope = profundidad - 1;
+                Nodo nodo = nodos[ tope ];
+                if( siguientes[ tope ] >= 0 )
+                {
+                    Object hijo = nodo.hijos[ siguientes[ tope ] ];
+                    siguientes[ tope ]--;
+                    camino.setLength( longitudes[ tope ] );
+                    camino.append( fragmentoDe( hijo ) );
+                    if( !( hijo instanceof Nodo ) )
+                    {
+                        return camino.toString( );
+                    }
+                    Nodo nodoHijo = ( Nodo )hijo;
+                    apilar( nodoHijo, nodoHijo.cantidadHijos - 1, camino.length( ) );
+                }
+                else
+                {
+                    profundidad--;
+                    nodos[ profundidad ] = null;
+                    if( nodo.terminal )
+                    {
+                        camino.setLength( longitudes[ tope ] );
+                        return camino.toString( );
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
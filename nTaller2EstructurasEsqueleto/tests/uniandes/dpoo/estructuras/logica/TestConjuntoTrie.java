@@ -0,0 +1,221 @@
+package uniandes.dpoo.estructuras.logica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas del trie comprimido que usa SandboxConjuntos. Está en el mismo paquete que ConjuntoTrie porque esa clase no es pública.
+ */
+class TestConjuntoTrie
+{
+    @Test
+    @SuppressWarnings( "unchecked" )
+    void testContraTreeSet( )
+    {
+        Random aleatorio = new Random( 20261017L );
+        String[] iniciales = new String[]{ "", "a", "ab", "abc", "abd", "b", "\uFFFF", "a\uFFFF", "\uFFFF\uFFFF", "\uFFFFa" };
+        for( int ronda = 0; ronda < 60; ronda++ )
+        {
+            ConjuntoTrie trie = new ConjuntoTrie( Arrays.asList( iniciales ) );
+            TreeSet<String> arbol = new TreeSet<String>( Arrays.asList( iniciales ) );
+            NavigableSet<String> vistaTrie = trie;
+            NavigableSet<String> vistaArbol = arbol;
+            String descripcion = "conjunto";
+
+            for( int paso = 0; paso < 150; paso++ )
+            {
+                final String cadena = generarCadena( aleatorio );
+                final NavigableSet<String> t = vistaTrie;
+                final NavigableSet<String> a = vistaArbol;
+                String mensaje = "El trie y el TreeSet no coinciden en la ronda " + ronda + ", paso " + paso + ", sobre " + descripcion + " con '" + cadena + "'";
+                int operacion = aleatorio.nextInt( 12 );
+                if( operacion <= 1 )
+                {
+                    assertEquals( resultado( ( ) -> a.add( cadena ) ), resultado( ( ) -> t.add( cadena ) ), mensaje + " (add)" );
+                }
+                else if( operacion <= 3 )
+                {
+                    assertEquals( resultado( ( ) -> a.remove( cadena ) ), resultado( ( ) -> t.remove( cadena ) ), mensaje + " (remove)" );
+                }
+                else if( operacion == 4 )
+                {
+                    assertEquals( a.contains( cadena ), t.contains( cadena ), mensaje + " (contains)" );
+                    assertEquals( a.ceiling( cadena ), t.ceiling( cadena ), mensaje + " (ceiling)" );
+                    assertEquals( a.floor( cadena ), t.floor( cadena ), mensaje + " (floor)" );
+                    assertEquals( a.higher( cadena ), t.higher( cadena ), mensaje + " (higher)" );
+                    assertEquals( a.lower( cadena ), t.lower( cadena ), mensaje + " (lower)" );
+                }
+                else if( operacion == 5 )
+                {
+                    assertEquals( resultado( ( ) -> a.first( ) ), resultado( ( ) -> t.first( ) ), mensaje + " (first)" );
+                    assertEquals( resultado( ( ) -> a.last( ) ), resultado( ( ) -> t.last( ) ), mensaje + " (last)" );
+                    assertEquals( a.pollFirst( ), t.pollFirst( ), mensaje + " (pollFirst)" );
+                    assertEquals( a.pollLast( ), t.pollLast( ), mensaje + " (pollLast)" );
+                }
+                else if( operacion == 6 )
+                {
+                    int posicion = a.isEmpty( ) ? 0 : aleatorio.nextInt( a.size( ) );
+                    Iterator<String> iteradorArbol = a.iterator( );
+                    Iterator<String> iteradorTrie = t.iterator( );
+                    for( int i = 0; i <= posicion && iteradorArbol.hasNext( ); i++ )
+                    {
+                        assertEquals( iteradorArbol.next( ), iteradorTrie.next( ), mensaje + " (iterator)" );
+                    }
+                    if( !a.isEmpty( ) )
+                    {
+                        iteradorArbol.remove( );
+                        iteradorTrie.remove( );
+                    }
+                    assertEquals( iteradorArbol.hasNext( ), iteradorTrie.hasNext( ), mensaje + " (iterator.remove)" );
+                }
+                else if( operacion <= 9 )
+                {
+                    String otra = generarCadena( aleatorio );
+                    String menor = cadena.compareTo( otra ) <= 0 ? cadena : otra;
+                    String mayor = cadena.compareTo( otra ) <= 0 ? otra : cadena;
+                    boolean incluidaMenor = aleatorio.nextBoolean( );
+                    boolean incluidaMayor = aleatorio.nextBoolean( );
+                    int tipoVista = aleatorio.nextInt( 4 );
+                    Object vistaNuevaArbol = resultado( ( ) -> crearVista( a, tipoVista, menor, incluidaMenor, mayor, incluidaMayor ) );
+                    Object vistaNuevaTrie = resultado( ( ) -> crearVista( t, tipoVista, menor, incluidaMenor, mayor, incluidaMayor ) );
+                    if( vistaNuevaArbol instanceof Class )
+                    {
+                        assertEquals( vistaNuevaArbol, vistaNuevaTrie, mensaje + " (vista " + tipoVista + " " + menor + " " + mayor + ")" );
+                    }
+                    else
+                    {
+                        vistaArbol = ( NavigableSet<String> )vistaNuevaArbol;
+                        vistaTrie = ( NavigableSet<String> )vistaNuevaTrie;
+                        descripcion = descripcion + " -> vista " + tipoVista + " [" + menor + ", " + mayor + "]";
+                    }
+                }
+                else if( operacion == 10 )
+                {
+                    vistaArbol = arbol;
+                    vistaTrie = trie;
+                    descripcion = "conjunto";
+                }
+                else if( aleatorio.nextInt( 4 ) == 0 )
+                {
+                    a.clear( );
+                    t.clear( );
+                }
+
+                assertEquals( vistaArbol.size( ), vistaTrie.size( ), mensaje + " (size de la vista)" );
+                assertEquals( new ArrayList<String>( vistaArbol ), new ArrayList<String>( vistaTrie ), mensaje + " (recorrido de la vista)" );
+                assertEquals( new ArrayList<String>( vistaArbol.descendingSet( ) ), new ArrayList<String>( vistaTrie.descendingSet( ) ), mensaje + " (recorrido inverso)" );
+                assertEquals( arbol.size( ), trie.size( ), mensaje + " (size del conjunto)" );
+                assertEquals( new ArrayList<String>( arbol ), new ArrayList<String>( trie ), mensaje + " (recorrido del conjunto)" );
+            }
+        }
+    }
+
+    /**
+     * Genera una cadena aleatoria corta con pocos caracteres diferentes (incluido el mayor caracter posible), para que haya muchas cadenas vacías, repetidas o que
+     * son prefijos de otras
+     * @param aleatorio El generador de números aleatorios
+     * @return La cadena generada
+     */
+    private static String generarCadena( Random aleatorio )
+    {
+        char[] caracteres = new char[]{ 'a', 'b', 'B', '\uFFFF' };
+        int longitud = aleatorio.nextInt( 5 );
+        StringBuilder cadena = new StringBuilder( );
+        for( int i = 0; i < longitud; i++ )
+        {
+            cadena.append( caracteres[ aleatorio.nextInt( caracteres.length ) ] );
+        }
+        return cadena.toString( );
+    }
+
+    /**
+     * Crea una vista de un conjunto ordenado
+     * @param conjunto El conjunto
+     * @param tipo 0 para subSet, 1 para headSet, 2 para tailSet y 3 para descendingSet
+     * @param menor La menor de las dos cadenas que se usan como límites
+     * @param incluidaMenor Indica si la menor cadena hace parte de la vista
+     * @param mayor La mayor de las dos cadenas que se usan como límites
+     * @param incluidaMayor Indica si la mayor cadena hace parte de la vista
+     * @return La vista creada
+     */
+    private static NavigableSet<String> crearVista( NavigableSet<String> conjunto, int tipo, String menor, boolean incluidaMenor, String mayor, boolean incluidaMayor )
+    {
+        boolean descendente = conjunto.comparator( ) != null;
+        NavigableSet<String> vista;
+        if( tipo == 0 )
+        {
+            vista = descendente ? conjunto.subSet( mayor, incluidaMayor, menor, incluidaMenor ) : conjunto.subSet( menor, incluidaMenor, mayor, incluidaMayor );
+        }
+        else if( tipo == 1 )
+        {
+            vista = conjunto.headSet( mayor, incluidaMayor );
+        }
+        else if( tipo == 2 )
+        {
+            vista = conjunto.tailSet( menor, incluidaMenor );
+        }
+        else
+        {
+            vista = conjunto.descendingSet( );
+        }
+        return vista;
+    }
+
+    /**
+     * Ejecuta una operación y retorna su resultado o, si lanza una excepción, la clase de la excepción
+     * @param operacion La operación
+     * @return El resultado de la operación o la clase de la excepción que lanzó
+     */
+    private static Object resultado( Supplier<Object> operacion )
+    {
+        try
+        {
+            return operacion.get( );
+        }
+        catch( RuntimeException e )
+        {
+            return e.getClass( );
+        }
+    }
+
+    @Test
+    void testRecorridosYVistas( )
+    {
+        ConjuntoTrie conjunto = new ConjuntoTrie( Arrays.asList( "/srv/a/x", "/srv/a", "/srv/b/y", "/srv/ab", "/opt", "" ) );
+        TreeSet<String> esperado = new TreeSet<String>( conjunto );
+
+        assertEquals( Arrays.asList( "", "/opt", "/srv/a", "/srv/a/x", "/srv/ab", "/srv/b/y" ), new ArrayList<String>( conjunto ), "El trie no recorrió las cadenas en orden" );
+        assertEquals( new ArrayList<String>( esperado.descendingSet( ) ), new ArrayList<String>( conjunto.descendingSet( ) ), "El trie no recorrió las cadenas en orden inverso" );
+        assertEquals( new ArrayList<String>( esperado.tailSet( "/srv/a/" ) ), new ArrayList<String>( conjunto.tailSet( "/srv/a/" ) ), "El trie no retornó las cadenas siguientes" );
+        assertEquals( "/srv/ab", conjunto.higher( "/srv/a/x" ), "No encontró la cadena siguiente" );
+        assertEquals( "/srv/a/x", conjunto.lower( "/srv/a/y" ), "No encontró la cadena anterior" );
+        assertEquals( 2, conjunto.subSet( "/srv/a", false, "/srv/b", true ).size( ), "La cantidad de cadenas en el rango no es correcta" );
+
+        NavigableSet<String> siguientes = conjunto.tailSet( "/srv", true );
+        siguientes.remove( "/srv/a" );
+        assertFalse( conjunto.contains( "/srv/a" ), "Los cambios de una vista deberían reflejarse en el conjunto" );
+        assertTrue( conjunto.contains( "/srv/a/x" ), "Se eliminó una cadena equivocada" );
+        assertEquals( 5, conjunto.size( ), "La cantidad de cadenas no es correcta" );
+        try
+        {
+            siguientes.add( "/bin" );
+            fail( "No se debería poder agregar una cadena por fuera de la vista" );
+        }
+        catch( IllegalArgumentException e )
+        {
+            // Se esperaba la excepción
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package uniandes.dpoo.estructuras.logica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de las estrategias de ordenamiento que usa SandboxArreglos. Está en el mismo paquete que Ordenamientos porque esa clase no es pública.
+ */
+class TestOrdenamientos
+{
+    @Test
+    void testResolverEstrategiaConcreta( )
+    {
+        assertEquals( EstrategiaOrdenamiento.SECUENCIAL, Ordenamientos.resolver( EstrategiaOrdenamiento.SECUENCIAL, 10, true ), "No se respetó la estrategia solicitada" );
+        assertEquals( EstrategiaOrdenamiento.PARALELO, Ordenamientos.resolver( EstrategiaOrdenamiento.PARALELO, 10, true ), "No se respetó la estrategia solicitada" );
+        assertEquals( EstrategiaOrdenamiento.RADIX, Ordenamientos.resolver( EstrategiaOrdenamiento.RADIX, 10, true ), "No se respetó la estrategia solicitada" );
+        assertEquals( EstrategiaOrdenamiento.SECUENCIAL, Ordenamientos.resolver( EstrategiaOrdenamiento.RADIX, 10, false ), "Radix no debería usarse si no está disponible" );
+    }
+
+    @Test
+    void testResolverEstrategiaAutomatica( )
+    {
+        assertEquals( EstrategiaOrdenamiento.SECUENCIAL, Ordenamientos.resolver( EstrategiaOrdenamiento.AUTOMATICA, 10, true ), "Los arreglos pequeños se deberían ordenar secuencialmente" );
+
+        EstrategiaOrdenamiento grande = Ordenamientos.resolver( EstrategiaOrdenamiento.AUTOMATICA, Ordenamientos.UMBRAL_PARALELO, true );
+        EstrategiaOrdenamiento esperada = Runtime.getRuntime( ).availableProcessors( ) > 1 ? EstrategiaOrdenamiento.PARALELO : EstrategiaOrdenamiento.SECUENCIAL;
+        assertEquals( esperada, grande, "No se escogió la estrategia correcta para un arreglo grande" );
+    }
+
+    @Test
+    void testOrdenarEnteros( )
+    {
+        int[] original = new int[]{ 9, -1, Integer.MAX_VALUE, 0, 7, Integer.MIN_VALUE, 7, -300, 256, 3 };
+        int[] esperados = Arrays.copyOf( original, original.length );
+        Arrays.sort( esperados, 1, 9 );
+
+        EstrategiaOrdenamiento[] estrategias = EstrategiaOrdenamiento.values( );
+        for( int e = 0; e < estrategias.length; e++ )
+        {
+            int[] arreglo = Arrays.copyOf( original, original.length );
+            EstrategiaOrdenamiento usada = Ordenamientos.ordenar( arreglo, 1, 9, estrategias[ e ] );
+            assertTrue( usada != EstrategiaOrdenamiento.AUTOMATICA, "La estrategia usada debería ser una estrategia concreta" );
+            assertTrue( Arrays.equals( esperados, arreglo ), "No se ordenó correctamente el rango con la estrategia " + estrategias[ e ] );
+        }
+    }
+
+    @Test
+    void testOrdenarCadenas( )
+    {
+        String[] arreglo = new String[]{ "d", "b", "a", "c" };
+        EstrategiaOrdenamiento usada = Ordenamientos.ordenar( arreglo, 0, arreglo.length, EstrategiaOrdenamiento.RADIX );
+        assertEquals( EstrategiaOrdenamiento.SECUENCIAL, usada, "Las cadenas no se pueden ordenar con radix" );
+        assertTrue( Arrays.equals( new String[]{ "a", "b", "c", "d" }, arreglo ), "No se ordenaron correctamente las cadenas" );
+    }
+}
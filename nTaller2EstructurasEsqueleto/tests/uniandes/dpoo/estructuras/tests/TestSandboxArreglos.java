@@ -6,14 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.EstadisticasEnteros;
+import uniandes.dpoo.estructuras.logica.EstrategiaOrdenamiento;
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
+import uniandes.dpoo.estructuras.logica.HistogramaEnteros;
 import uniandes.dpoo.estructuras.logica.SandboxArreglos;
 
 class TestSandboxArreglos
@@ -121,6 +128,77 @@ class TestSandboxArreglos
         assertEquals( 0, copia.length, "La cantidad de cadenas en el sandbox vacío no es correcta" );
     }
 
+    @Test
+    void testGetVistaEnteros( )
+    {
+        vacio.agregarEnteros( new int[]{ 5, -3, 8, 1 }, 0, 4 );
+        IntBuffer vista = vacio.getVistaEnteros( );
+        assertTrue( vista.isReadOnly( ), "La vista debería ser de sólo lectura" );
+        assertEquals( 4, vista.limit( ), "La vista no tiene la cantidad de elementos esperados" );
+
+        vacio.agregarEntero( 7 );
+        vacio.organizarEnteros( );
+        vacio.volverPositivos( );
+        vacio.eliminarEntero( 8 );
+
+        assertEquals( 4, vista.limit( ), "Modificar el arreglo no debería cambiar la vista" );
+        assertEquals( 5, vista.get( 0 ), "Modificar el arreglo no debería cambiar la vista" );
+        assertEquals( -3, vista.get( 1 ), "Modificar el arreglo no debería cambiar la vista" );
+        assertEquals( 8, vista.get( 2 ), "Modificar el arreglo no debería cambiar la vista" );
+        assertEquals( 1, vista.get( 3 ), "Modificar el arreglo no debería cambiar la vista" );
+
+        int[] copia = vacio.getCopiaEnteros( );
+        assertEquals( 4, copia.length, "La cantidad de enteros no es correcta" );
+        assertEquals( 3, copia[ 0 ], "No se modificó correctamente el arreglo" );
+        assertEquals( 7, copia[ 3 ], "No se modificó correctamente el arreglo" );
+
+        vista = vacio.getVistaEnteros( );
+        vacio.eliminarEnteroPorPosicion( 0 );
+        assertEquals( 3, vista.get( 0 ), "Eliminar un entero no debería cambiar la vista" );
+        assertEquals( 1, vacio.getCopiaEnteros( )[ 0 ], "No se eliminó correctamente el entero" );
+    }
+
+    @Test
+    void testGetVistaEnterosAgregarAlFinal( )
+    {
+        vacio.agregarEntero( 1 );
+        IntBuffer vista = vacio.getVistaEnteros( );
+        vacio.agregarEntero( 42 );
+        vacio.agregarEntero( 43 );
+
+        assertEquals( 1, vista.capacity( ), "La capacidad de la vista debería ser la cantidad de enteros que había" );
+        vista.limit( vista.capacity( ) );
+        assertEquals( 1, vista.remaining( ), "La vista no debería mostrar los enteros agregados después" );
+        assertEquals( 1, vista.get( 0 ), "Agregar enteros no debería cambiar la vista" );
+        assertEquals( 3, vacio.getCantidadEnteros( ), "No se agregaron correctamente los enteros" );
+    }
+
+    @Test
+    void testGetVistaCadenas( )
+    {
+        List<String> vista = sencillo.getVistaCadenas( );
+        assertEquals( cadenasSencillas.length, vista.size( ), "La vista no tiene la cantidad de elementos esperados" );
+
+        sencillo.organizarCadenas( );
+        sencillo.eliminarCadena( "c" );
+
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            assertEquals( cadenasSencillas[ i ], vista.get( i ), "Modificar el arreglo no debería cambiar la vista" );
+        }
+        assertEquals( cadenasSencillas.length - 2, sencillo.getCantidadCadenas( ), "No se modificó correctamente el arreglo" );
+
+        try
+        {
+            vista.set( 0, "z" );
+            fail( "La vista no debería poder modificarse" );
+        }
+        catch( UnsupportedOperationException e )
+        {
+            // Se esperaba la excepción
+        }
+    }
+
     @Test
     void testAgregarEntero( )
     {
@@ -169,6 +247,105 @@ class TestSandboxArreglos
         assertEquals( "mmmm", copia[ 0 ], "La nueva cadena no quedó almacenado al final del arreglo" );
     }
 
+    @Test
+    void testAgregarMuchosEnteros( )
+    {
+        for( int i = 0; i < 1000; i++ )
+        {
+            vacio.agregarEntero( i );
+        }
+        assertEquals( 1000, vacio.getCantidadEnteros( ), "La cantidad de enteros no es correcta" );
+
+        int[] copia = vacio.getCopiaEnteros( );
+        assertEquals( 1000, copia.length, "El arreglo retornado no tiene la cantidad de elementos esperados" );
+        for( int i = 0; i < 1000; i++ )
+        {
+            assertEquals( i, copia[ i ], "El arreglo retornado no tiene los elementos esperados" );
+        }
+    }
+
+    @Test
+    void testAsegurarYAjustarCapacidad( )
+    {
+        sencillo.asegurarCapacidadEnteros( 500 );
+        sencillo.asegurarCapacidadCadenas( 500 );
+        assertEquals( enterosSencillos.length, sencillo.getCantidadEnteros( ), "Asegurar la capacidad no debería cambiar la cantidad de enteros" );
+        assertEquals( cadenasSencillas.length, sencillo.getCantidadCadenas( ), "Asegurar la capacidad no debería cambiar la cantidad de cadenas" );
+
+        sencillo.ajustarCapacidad( );
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( enterosSencillos.length, copia.length, "Ajustar la capacidad no debería cambiar la cantidad de enteros" );
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            assertEquals( enterosSencillos[ i ], copia[ i ], "Ajustar la capacidad no debería cambiar los enteros" );
+        }
+
+        sencillo.agregarCadena( "z" );
+        assertEquals( "z", sencillo.getCopiaCadenas( )[ cadenasSencillas.length ], "No se agregó la cadena después de ajustar la capacidad" );
+    }
+
+    @Test
+    void testAgregarEnteros( )
+    {
+        int[] nuevos = new int[]{ 10, 20, 30, 40, 50 };
+        sencillo.agregarEnteros( nuevos, 1, 4 );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( enterosSencillos.length + 3, copia.length, "La cantidad de enteros no es correcta" );
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            assertEquals( enterosSencillos[ i ], copia[ i ], "Se modificaron los enteros existentes" );
+        }
+        assertEquals( 20, copia[ enterosSencillos.length ], "No se agregaron los enteros correctamente" );
+        assertEquals( 30, copia[ enterosSencillos.length + 1 ], "No se agregaron los enteros correctamente" );
+        assertEquals( 40, copia[ enterosSencillos.length + 2 ], "No se agregaron los enteros correctamente" );
+
+        vacio.agregarEnteros( nuevos, -5, 100 );
+        assertEquals( nuevos.length, vacio.getCantidadEnteros( ), "No se ajustó correctamente el rango de valores a agregar" );
+    }
+
+    @Test
+    void testAgregarCadenas( )
+    {
+        String[] nuevas = new String[]{ "x", "y", "z" };
+        sencillo.agregarCadenas( nuevas, 0, nuevas.length );
+
+        String[] copia = sencillo.getCopiaCadenas( );
+        assertEquals( cadenasSencillas.length + 3, copia.length, "La cantidad de cadenas no es correcta" );
+        for( int i = 0; i < nuevas.length; i++ )
+        {
+            assertEquals( nuevas[ i ], copia[ cadenasSencillas.length + i ], "No se agregaron las cadenas correctamente" );
+        }
+
+        vacio.agregarCadenas( nuevas, 2, 1 );
+        assertEquals( 0, vacio.getCantidadCadenas( ), "No se deberían haber agregado cadenas" );
+    }
+
+    @Test
+    void testInsertarEnteros( )
+    {
+        int[] nuevos = new int[]{ 97, 98, 99 };
+        sencillo.insertarEnteros( nuevos, 2 );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( enterosSencillos.length + 3, copia.length, "La cantidad de enteros no es correcta" );
+        assertEquals( enterosSencillos[ 0 ], copia[ 0 ], "No se ajustaron correctamente los enteros existentes" );
+        assertEquals( enterosSencillos[ 1 ], copia[ 1 ], "No se ajustaron correctamente los enteros existentes" );
+        assertEquals( 97, copia[ 2 ], "No se insertaron los enteros correctamente" );
+        assertEquals( 98, copia[ 3 ], "No se insertaron los enteros correctamente" );
+        assertEquals( 99, copia[ 4 ], "No se insertaron los enteros correctamente" );
+        for( int i = 2; i < enterosSencillos.length; i++ )
+        {
+            assertEquals( enterosSencillos[ i ], copia[ i + 3 ], "No se ajustaron correctamente los enteros existentes" );
+        }
+
+        sencillo.insertarEnteros( nuevos, 1000 );
+        assertEquals( 99, sencillo.getCopiaEnteros( )[ enterosSencillos.length + 5 ], "No se insertaron los enteros al final" );
+
+        vacio.insertarEnteros( nuevos, -1 );
+        assertEquals( 97, vacio.getCopiaEnteros( )[ 0 ], "No se insertaron los enteros al principio" );
+    }
+
     @Test
     void testEliminarEnteroUnico( )
     {
@@ -231,6 +408,37 @@ class TestSandboxArreglos
         assertEquals( 0, vacio.getCantidadCadenas( ), "La cantidad de cadenas debería seguir siendo la misma" );
     }
 
+    @Test
+    void testEliminarEnterosConCriterio( )
+    {
+        int eliminados = sencillo.eliminarEnteros( valor -> valor < 0 );
+        assertEquals( 4, eliminados, "La cantidad de enteros eliminados no es correcta" );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( enterosSencillos.length - 4, copia.length, "La cantidad de enteros no es correcta" );
+        int j = 0;
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            if( enterosSencillos[ i ] >= 0 )
+            {
+                assertEquals( enterosSencillos[ i ], copia[ j ], "No se conservó el orden de los enteros restantes" );
+                j++;
+            }
+        }
+    }
+
+    @Test
+    void testEliminarCadenasConCriterio( )
+    {
+        int eliminadas = sencillo.eliminarCadenas( cadena -> cadena.equals( "a" ) || cadena.equals( "b" ) );
+        assertEquals( 4, eliminadas, "La cantidad de cadenas eliminadas no es correcta" );
+
+        String[] copia = sencillo.getCopiaCadenas( );
+        assertEquals( cadenasSencillas.length - 4, copia.length, "La cantidad de cadenas no es correcta" );
+        assertEquals( "c", copia[ 0 ], "No se conservó el orden de las cadenas restantes" );
+        assertEquals( "c", copia[ copia.length - 1 ], "No se conservó el orden de las cadenas restantes" );
+    }
+
     @Test
     void testEliminarEnteroPorPosicionCorrectos( )
     {
@@ -372,6 +580,43 @@ class TestSandboxArreglos
         }
     }
 
+    @Test
+    void testInsertarEnteroConHueco( )
+    {
+        vacio.setInsercionConHueco( true );
+        assertTrue( vacio.isInsercionConHueco( ), "La inserción con hueco debería estar activa" );
+        for( int i = 0; i < 10; i++ )
+        {
+            vacio.agregarEntero( i );
+        }
+        for( int i = 0; i < 100; i++ )
+        {
+            vacio.insertarEntero( 100 + i, 5 + i );
+        }
+        vacio.insertarEntero( -1, 0 );
+        vacio.insertarEntero( -2, 1000 );
+
+        assertEquals( 112, vacio.getCantidadEnteros( ), "La cantidad de enteros no aumentó correctamente" );
+        assertEquals( 1, vacio.contarApariciones( 150 ), "No se insertó correctamente el entero" );
+
+        int[] copia = vacio.getCopiaEnteros( );
+        assertEquals( -1, copia[ 0 ], "No se insertó el entero correctamente en la primera posición" );
+        for( int i = 0; i < 5; i++ )
+        {
+            assertEquals( i, copia[ i + 1 ], "No se ajustaron correctamente los enteros existentes" );
+        }
+        for( int i = 0; i < 100; i++ )
+        {
+            assertEquals( 100 + i, copia[ i + 6 ], "No se insertaron correctamente los enteros" );
+        }
+        for( int i = 5; i < 10; i++ )
+        {
+            assertEquals( i, copia[ i + 101 ], "No se ajustaron correctamente los enteros existentes" );
+        }
+        assertEquals( -2, copia[ 111 ], "No se insertó el entero correctamente en la última posición" );
+        assertEquals( -2, vacio.getEstadisticasEnteros( ).getMinimo( ), "Las estadísticas no se actualizaron correctamente" );
+    }
+
     @Test
     void testReiniciarArregloEnteros( )
     {
@@ -485,6 +730,21 @@ class TestSandboxArreglos
         assertEquals( 0, vacio.contarApariciones( "z" ), "No contó correctamente las cadenas" );
     }
 
+    @Test
+    void testContarCadenaMayusculasYMinusculas( )
+    {
+        vacio.agregarCadena( "Hola" );
+        vacio.agregarCadena( "HOLA" );
+        vacio.agregarCadena( "hola" );
+        vacio.agregarCadena( "hol" );
+        vacio.agregarCadena( "holas" );
+
+        assertEquals( 3, vacio.contarApariciones( "hOlA" ), "No contó correctamente las cadenas sin diferenciar mayúsculas y minúsculas" );
+
+        vacio.eliminarCadena( "HoLa" );
+        assertEquals( 2, vacio.getCantidadCadenas( ), "No se eliminaron correctamente las cadenas sin diferenciar mayúsculas y minúsculas" );
+    }
+
     @Test
     void testOrganizarEnteros( )
     {
@@ -531,6 +791,52 @@ class TestSandboxArreglos
         assertEquals( 0, copia.length, "La cantidad de cadenas es correcta" );
     }
 
+    @Test
+    void testOrganizarEnterosConEstrategia( )
+    {
+        int[] esperados = Arrays.copyOf( enterosSencillos, enterosSencillos.length );
+        Arrays.sort( esperados );
+
+        EstrategiaOrdenamiento[] estrategias = EstrategiaOrdenamiento.values( );
+        for( int e = 0; e < estrategias.length; e++ )
+        {
+            SandboxArreglos sandbox = new SandboxArreglos( );
+            sandbox.agregarEnteros( enterosSencillos, 0, enterosSencillos.length );
+            sandbox.agregarEntero( Integer.MIN_VALUE );
+            sandbox.agregarEntero( Integer.MAX_VALUE );
+            sandbox.organizarEnteros( estrategias[ e ] );
+
+            int[] copia = sandbox.getCopiaEnteros( );
+            assertEquals( Integer.MIN_VALUE, copia[ 0 ], "No se organizaron correctamente los enteros con la estrategia " + estrategias[ e ] );
+            assertEquals( Integer.MAX_VALUE, copia[ copia.length - 1 ], "No se organizaron correctamente los enteros con la estrategia " + estrategias[ e ] );
+            for( int i = 0; i < esperados.length; i++ )
+            {
+                assertEquals( esperados[ i ], copia[ i + 1 ], "No se organizaron correctamente los enteros con la estrategia " + estrategias[ e ] );
+            }
+        }
+    }
+
+    @Test
+    void testOrganizarCadenasConEstrategia( )
+    {
+        sencillo.organizarCadenas( EstrategiaOrdenamiento.RADIX );
+
+        String[] copia = sencillo.getCopiaCadenas( );
+        for( int i = 1; i < copia.length; i++ )
+        {
+            assertTrue( copia[ i - 1 ].compareTo( copia[ i ] ) <= 0, "No se organizaron correctamente las cadenas" );
+        }
+
+        sencillo.setEstrategiaOrdenamiento( EstrategiaOrdenamiento.PARALELO );
+        assertEquals( EstrategiaOrdenamiento.PARALELO, sencillo.getEstrategiaOrdenamiento( ), "No se cambió la estrategia configurada" );
+        sencillo.organizarEnteros( );
+        int[] enteros = sencillo.getCopiaEnteros( );
+        for( int i = 1; i < enteros.length; i++ )
+        {
+            assertTrue( enteros[ i - 1 ] <= enteros[ i ], "No se organizaron correctamente los enteros con la estrategia configurada" );
+        }
+    }
+
     @Test
     void testEncontrarEntero( )
     {
@@ -565,6 +871,28 @@ class TestSandboxArreglos
         assertEquals( 0, vacio.buscarEntero( -2 ).length, "No encontró la posición correctamente" );
     }
 
+    @Test
+    void testEncontrarEnteroIndexado( )
+    {
+        sencillo.setBusquedaIndexada( true );
+
+        int[] posiciones = sencillo.buscarEntero( 6 );
+        assertEquals( 3, posiciones.length, "No encontró la cantidad de posiciones correcta" );
+        assertEquals( 3, posiciones[ 0 ], "No encontró la posición correctamente" );
+        assertEquals( 10, posiciones[ 1 ], "No encontró la posición correctamente" );
+        assertEquals( 15, posiciones[ 2 ], "No encontró la posición correctamente" );
+        assertEquals( 3, sencillo.contarApariciones( 6 ), "No contó correctamente los enteros" );
+        assertEquals( 0, sencillo.buscarEntero( 100 ).length, "No debería haber encontrado el valor" );
+
+        sencillo.eliminarEnteroPorPosicion( 0 );
+        sencillo.agregarEntero( 6 );
+        posiciones = sencillo.buscarEntero( 6 );
+        assertEquals( 4, posiciones.length, "El índice no se actualizó después de modificar el arreglo" );
+        assertEquals( 2, posiciones[ 0 ], "El índice no se actualizó después de modificar el arreglo" );
+        assertEquals( enterosSencillos.length - 1, posiciones[ 3 ], "El índice no se actualizó después de modificar el arreglo" );
+        assertEquals( 1, sencillo.contarApariciones( 9 ), "El índice no se actualizó después de modificar el arreglo" );
+    }
+
     @Test
     void testCalcularRangoEnteros( )
     {
@@ -580,6 +908,42 @@ class TestSandboxArreglos
         assertEquals( 0, rango.length, "El rango retornado debería estar vacío" );
     }
 
+    @Test
+    void testCalcularRangoEnterosNoModificaArreglo( )
+    {
+        sencillo.calcularRangoEnteros( );
+        int[] copia = sencillo.getCopiaEnteros( );
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            assertEquals( enterosSencillos[ i ], copia[ i ], "Calcular el rango no debería modificar el arreglo de enteros" );
+        }
+    }
+
+    @Test
+    void testGetEstadisticasEnteros( )
+    {
+        EstadisticasEnteros estadisticas = sencillo.getEstadisticasEnteros( );
+        int suma = 0;
+        for( int i = 0; i < enterosSencillos.length; i++ )
+        {
+            suma += enterosSencillos[ i ];
+        }
+        assertEquals( enterosSencillos.length, estadisticas.getCantidad( ), "La cantidad de valores no es correcta" );
+        assertEquals( suma, estadisticas.getSuma( ), "La suma de los valores no es correcta" );
+        assertEquals( -5, estadisticas.getMinimo( ), "El valor mínimo no es correcto" );
+        assertEquals( 9, estadisticas.getMaximo( ), "El valor máximo no es correcto" );
+        assertEquals( ( double )suma / enterosSencillos.length, estadisticas.getPromedio( ), 0.0001, "El promedio no es correcto" );
+
+        sencillo.eliminarEntero( -5 );
+        sencillo.eliminarEntero( 9 );
+        sencillo.agregarEntero( 4 );
+        estadisticas = sencillo.getEstadisticasEnteros( );
+        assertEquals( enterosSencillos.length - 2, estadisticas.getCantidad( ), "La cantidad de valores no es correcta" );
+        assertEquals( suma + 5 - 18 + 4, estadisticas.getSuma( ), "La suma de los valores no es correcta" );
+        assertEquals( -4, estadisticas.getMinimo( ), "El valor mínimo no es correcto" );
+        assertEquals( 8, estadisticas.getMaximo( ), "El valor máximo no es correcto" );
+    }
+
     @Test
     void testCalcularHistograma( )
     {
@@ -610,6 +974,25 @@ class TestSandboxArreglos
         assertEquals( 0, histograma.size( ), "La cantidad de valores en el histograma no es la correcta" );
     }
 
+    @Test
+    void testCalcularHistogramaPrimitivo( )
+    {
+        HistogramaEnteros histograma = sencillo.calcularHistogramaPrimitivo( );
+        assertEquals( 14, histograma.getCantidadLlaves( ), "La cantidad de valores en el histograma no es la correcta" );
+        assertEquals( 3, histograma.getConteo( 6 ), "El conteo del valor 6 no es correcto" );
+        assertEquals( 1, histograma.getConteo( -5 ), "El conteo del valor -5 no es correcto" );
+        assertEquals( 0, histograma.getConteo( 100 ), "El conteo de un valor que no está no es correcto" );
+        assertEquals( 4, histograma.contarRepetidos( ), "La cantidad de valores repetidos no es correcta" );
+
+        vacio.agregarEntero( Integer.MIN_VALUE );
+        vacio.agregarEntero( Integer.MAX_VALUE );
+        vacio.agregarEntero( Integer.MIN_VALUE );
+        HistogramaEnteros disperso = vacio.calcularHistogramaPrimitivo( );
+        assertEquals( 2, disperso.getCantidadLlaves( ), "La cantidad de valores en el histograma no es la correcta" );
+        assertEquals( 2, disperso.getConteo( Integer.MIN_VALUE ), "El conteo del menor valor no es correcto" );
+        assertEquals( 1, disperso.getConteo( Integer.MAX_VALUE ), "El conteo del mayor valor no es correcto" );
+    }
+
     @Test
     void testContarEnterosRepetidos( )
     {
@@ -650,6 +1033,86 @@ class TestSandboxArreglos
         assertFalse( vacio.compararArregloEnteros( enterosSencillos ), "No comparó correctamente los arreglos cuando eran diferentes" );
     }
 
+    @Test
+    void testEjecucionParalela( )
+    {
+        int[] valores = new int[10000];
+        for( int i = 0; i < valores.length; i++ )
+        {
+            valores[ i ] = ( i * 7919 ) % 201 - 100;
+        }
+        SandboxArreglos secuencial = new SandboxArreglos( );
+        secuencial.agregarEnteros( valores, 0, valores.length );
+        vacio.agregarEnteros( valores, 0, valores.length );
+
+        ForkJoinPool pool = new ForkJoinPool( 2 );
+        try
+        {
+            vacio.setEjecucionParalela( true );
+            vacio.setPoolParalelo( pool );
+            vacio.setUmbralParalelo( 100 );
+            assertTrue( vacio.isEjecucionParalela( ), "La ejecución paralela debería estar activa" );
+            assertEquals( pool, vacio.getPoolParalelo( ), "No se cambió el pool paralelo" );
+            assertEquals( 100, vacio.getUmbralParalelo( ), "No se cambió el umbral paralelo" );
+
+            assertEquals( secuencial.contarApariciones( 17 ), vacio.contarApariciones( 17 ), "No contó correctamente el entero en paralelo" );
+            assertTrue( Arrays.equals( secuencial.buscarEntero( -3 ), vacio.buscarEntero( -3 ) ), "No encontró correctamente las posiciones en paralelo" );
+            assertEquals( secuencial.calcularHistograma( ), vacio.calcularHistograma( ), "No calculó correctamente el histograma en paralelo" );
+            assertEquals( secuencial.contarEnterosRepetidos( ), vacio.contarEnterosRepetidos( ), "No contó correctamente los repetidos en paralelo" );
+
+            secuencial.volverPositivos( );
+            vacio.volverPositivos( );
+            assertTrue( vacio.compararArregloEnteros( secuencial.getCopiaEnteros( ) ), "No se ajustaron correctamente los enteros en paralelo" );
+
+            vacio.generarEnteros( 5000, 0, 10 );
+            assertEquals( 5000, vacio.getCantidadEnteros( ), "No se generó la cantidad de enteros correcta en paralelo" );
+        }
+        finally
+        {
+            pool.shutdown( );
+        }
+    }
+
+    @Test
+    void testRecorridosArregloGrande( )
+    {
+        int[] valores = new int[1000];
+        for( int i = 0; i < valores.length; i++ )
+        {
+            valores[ i ] = ( i % 7 == 0 ) ? -i : i % 13;
+        }
+        valores[ 999 ] = Integer.MIN_VALUE;
+        vacio.agregarEnteros( valores, 0, valores.length );
+
+        assertTrue( vacio.compararArregloEnteros( valores ), "No comparó correctamente los arreglos cuando eran iguales" );
+        int[] otro = vacio.getCopiaEnteros( );
+        otro[ 700 ]++;
+        assertFalse( vacio.compararArregloEnteros( otro ), "No comparó correctamente los arreglos cuando eran diferentes" );
+        assertFalse( vacio.compararArregloEnteros( Arrays.copyOf( valores, 999 ) ), "No comparó correctamente los arreglos de diferente tamaño" );
+
+        int esperado = 0;
+        for( int valor : valores )
+        {
+            esperado += ( valor == 5 ) ? 1 : 0;
+        }
+        int[] posiciones = vacio.buscarEntero( 5 );
+        assertEquals( esperado, vacio.contarApariciones( 5 ), "No contó correctamente el entero" );
+        assertEquals( esperado, posiciones.length, "No encontró la cantidad de posiciones correcta" );
+        for( int i = 1; i < posiciones.length; i++ )
+        {
+            assertTrue( posiciones[ i - 1 ] < posiciones[ i ], "Las posiciones deberían estar ordenadas" );
+            assertEquals( 5, valores[ posiciones[ i ] ], "No encontró la posición correctamente" );
+        }
+
+        vacio.volverPositivos( );
+        int[] positivos = vacio.getCopiaEnteros( );
+        for( int i = 0; i < 999; i++ )
+        {
+            assertEquals( Math.abs( valores[ i ] ), positivos[ i ], "No se ajustaron correctamente los enteros existentes" );
+        }
+        assertEquals( Integer.MIN_VALUE, positivos[ 999 ], "El menor entero no tiene un valor positivo que lo represente" );
+    }
+
     @Test
     void testMismosEnterosMismoOrden( )
     {
@@ -670,6 +1133,25 @@ class TestSandboxArreglos
         assertTrue( vacio.mismosEnteros( new int[]{} ), "No comparó correctamente los arreglos" );
     }
 
+    @Test
+    void testMismosEnterosSinModificarArreglos( )
+    {
+        int[] valores = new int[]{ 4, -1, 4, 7, 0 };
+        for( int i = 0; i < valores.length; i++ )
+        {
+            vacio.agregarEntero( valores[ i ] );
+        }
+        int[] otro = new int[]{ 7, 4, 0, -1, 4 };
+
+        assertTrue( vacio.mismosEnteros( otro ), "No comparó correctamente los arreglos en orden diferente" );
+        assertTrue( Arrays.equals( new int[]{ 7, 4, 0, -1, 4 }, otro ), "Comparar no debería modificar el arreglo recibido" );
+        assertTrue( Arrays.equals( valores, vacio.getCopiaEnteros( ) ), "Comparar no debería modificar el arreglo de enteros" );
+
+        assertFalse( vacio.mismosEnteros( new int[]{ 7, 4, 0, -1, -1 } ), "No tuvo en cuenta la cantidad de apariciones de cada valor" );
+        assertFalse( vacio.mismosEnteros( new int[]{ 7, 4, 0, -1 } ), "No comparó correctamente arreglos de tamaños diferentes" );
+        assertFalse( vacio.mismosEnteros( new int[]{ 7, 4, 0, -1, 4, 4 } ), "No comparó correctamente arreglos de tamaños diferentes" );
+    }
+
     @Test
     void testGenerarEnterosBasico( )
     {
@@ -719,4 +1201,58 @@ class TestSandboxArreglos
             fail( "Los valores no están bien distribuidos" );
     }
 
+
+    @Test
+    void testGenerarEnterosConSemilla( )
+    {
+        sencillo.setGeneradorEnteros( new GeneradorEnteros( 42 ) );
+        sencillo.generarEnteros( 100000, -10, 10 );
+        int[] primeraSerie = sencillo.getCopiaEnteros( );
+
+        ForkJoinPool pool = new ForkJoinPool( 4 );
+        try
+        {
+            vacio.setGeneradorEnteros( new GeneradorEnteros( 42 ) );
+            vacio.setEjecucionParalela( true );
+            vacio.setPoolParalelo( pool );
+            vacio.setUmbralParalelo( 1000 );
+            vacio.generarEnteros( 100000, -10, 10 );
+        }
+        finally
+        {
+            pool.shutdown( );
+        }
+        assertTrue( vacio.compararArregloEnteros( primeraSerie ), "La misma semilla debería generar la misma serie, en paralelo o no" );
+
+        int[] rango = sencillo.calcularRangoEnteros( );
+        assertEquals( -10, rango[ 0 ], "El menor valor del rango no es el correcto" );
+        assertEquals( 10, rango[ 1 ], "El mayor valor del rango no es el correcto" );
+
+        sencillo.generarEnteros( 100000, -10, 10 );
+        assertFalse( sencillo.compararArregloEnteros( primeraSerie ), "Dos llamados seguidos deberían generar series diferentes" );
+    }
+
+    @Test
+    void testGenerarEnterosDistintos( )
+    {
+        sencillo.generarEnterosDistintos( 50, 1, 60 );
+        assertEquals( 50, sencillo.getCantidadEnteros( ), "La cantidad de elementos no es correcta" );
+        assertEquals( 0, sencillo.contarEnterosRepetidos( ), "No debería haber enteros repetidos" );
+        int[] rango = sencillo.calcularRangoEnteros( );
+        assertTrue( 1 <= rango[ 0 ] && rango[ 1 ] <= 60, "Los valores generados no están en el rango" );
+
+        sencillo.generarEnterosDistintos( 1000, Integer.MIN_VALUE, Integer.MAX_VALUE );
+        assertEquals( 0, sencillo.contarEnterosRepetidos( ), "No debería haber enteros repetidos" );
+
+        try
+        {
+            sencillo.generarEnterosDistintos( 11, 0, 9 );
+            fail( "No hay suficientes valores diferentes en el rango" );
+        }
+        catch( IllegalArgumentException e )
+        {
+            // Se esperaba la excepción
+        }
+    }
+
 }
@@ -4,17 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.TreeSet;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.AlmacenamientoConjunto;
 import uniandes.dpoo.estructuras.logica.SandboxConjuntos;
 
 class TestSandboxConjuntos
@@ -100,6 +103,36 @@ class TestSandboxConjuntos
         copia.set( 0, "Testing 1 2 3" );
         List<String> copia2 = sencillo.getCadenasComoLista( );
         assertFalse( copia.get( 0 ).equals( copia2.get( 0 ) ), "Dos llamados al método retornaron la misma lista" );
+        assertEquals( cadenasOrdenadas.length, sencillo.getCantidadCadenas( ), "Invertir la lista no debería modificar el conjunto" );
+    }
+
+    @Test
+    void testGetVistaCadenasInvertida( )
+    {
+        NavigableSet<String> vista = sencillo.getVistaCadenasInvertida( );
+
+        assertEquals( cadenasOrdenadas.length, vista.size( ), "La vista no tiene la cantidad de elementos esperados" );
+        int i = cadenasOrdenadas.length - 1;
+        for( String cadena : vista )
+        {
+            assertEquals( cadenasOrdenadas[ i ], cadena, "La vista no tiene los elementos esperados" );
+            i--;
+        }
+        assertEquals( Arrays.asList( "c", "a", "B" ), new ArrayList<String>( vista.tailSet( "d", false ) ), "La vista no permite continuar después de una cadena" );
+
+        sencillo.agregarCadena( "f" );
+        assertEquals( "f", vista.first( ), "La vista no refleja los cambios del conjunto" );
+
+        try
+        {
+            vista.add( "z" );
+            fail( "La vista debería ser de sólo lectura" );
+        }
+        catch( UnsupportedOperationException e )
+        {
+            // Se esperaba la excepción
+        }
+        assertEquals( cadenasOrdenadas.length + 1, sencillo.getCantidadCadenas( ), "Recorrer la vista no debería modificar el conjunto" );
     }
 
     @Test
@@ -116,6 +149,35 @@ class TestSandboxConjuntos
         assertEquals( null, vacio.getUltima( ), "El último elemento retornado no es el correcto" );
     }
 
+    @Test
+    void testGetPrimeraYUltimaSinModificar( )
+    {
+        for( int i = 0; i < 3; i++ )
+        {
+            assertEquals( cadenasOrdenadas[ 0 ], sencillo.getPrimera( ), "El primer elemento retornado no es el correcto" );
+            assertEquals( cadenasOrdenadas[ cadenasOrdenadas.length - 1 ], sencillo.getUltima( ), "El último elemento retornado no es el correcto" );
+        }
+        assertEquals( cadenasOrdenadas.length, sencillo.getCantidadCadenas( ), "Consultar la primera y la última cadena no debería modificar el conjunto" );
+
+        sencillo.agregarCadena( "A" );
+        sencillo.eliminarCadena( "e" );
+        assertEquals( "A", sencillo.getPrimera( ), "El primer elemento no se actualizó después de agregar una cadena" );
+        assertEquals( "d", sencillo.getUltima( ), "El último elemento no se actualizó después de eliminar una cadena" );
+    }
+
+    @Test
+    void testTomarPrimeraYUltima( )
+    {
+        assertEquals( cadenasOrdenadas[ 0 ], sencillo.tomarPrimera( ), "El primer elemento retornado no es el correcto" );
+        assertEquals( cadenasOrdenadas[ cadenasOrdenadas.length - 1 ], sencillo.tomarUltima( ), "El último elemento retornado no es el correcto" );
+        assertEquals( cadenasOrdenadas.length - 2, sencillo.getCantidadCadenas( ), "Las cadenas tomadas no se eliminaron del conjunto" );
+        assertEquals( cadenasOrdenadas[ 1 ], sencillo.getPrimera( ), "El primer elemento no se actualizó" );
+        assertEquals( cadenasOrdenadas[ cadenasOrdenadas.length - 2 ], sencillo.getUltima( ), "El último elemento no se actualizó" );
+
+        assertEquals( null, vacio.tomarPrimera( ), "El primer elemento retornado no es el correcto" );
+        assertEquals( null, vacio.tomarUltima( ), "El último elemento retornado no es el correcto" );
+    }
+
     @Test
     void testGetSiguientesIncluido( )
     {
@@ -152,6 +214,95 @@ class TestSandboxConjuntos
         assertEquals( 0, siguientes.size( ), "La cantidad de elementos retornada no es correcta" );
     }
 
+    @Test
+    void testGetConPrefijo( )
+    {
+        for( AlmacenamientoConjunto almacenamiento : AlmacenamientoConjunto.values( ) )
+        {
+            SandboxConjuntos conjunto = new SandboxConjuntos( almacenamiento );
+            for( String cadena : new String[]{ "casa", "cas", "casas", "caso", "cat", "ca", "cb", "c\uffff", "c\uffff\uffff", "d" } )
+            {
+                conjunto.agregarCadena( cadena );
+            }
+
+            assertEquals( Arrays.asList( "cas", "casa", "casas", "caso" ), new ArrayList<String>( conjunto.getConPrefijo( "cas" ) ), "No retornó las cadenas con el prefijo" );
+            assertEquals( Arrays.asList( "c\uffff", "c\uffff\uffff" ), new ArrayList<String>( conjunto.getConPrefijo( "c\uffff" ) ), "No retornó las cadenas con el prefijo" );
+            assertEquals( 0, conjunto.getConPrefijo( "z" ).size( ), "No debería haber cadenas con el prefijo" );
+            assertEquals( 10, conjunto.getConPrefijo( "" ).size( ), "Todas las cadenas empiezan por el prefijo vacío" );
+
+            NavigableSet<String> vista = conjunto.getConPrefijo( "ca" );
+            assertEquals( 6, vista.size( ), "No retornó las cadenas con el prefijo" );
+            conjunto.agregarCadena( "cama" );
+            conjunto.agregarCadena( "cab" );
+            conjunto.eliminarCadena( "cat" );
+            assertEquals( 7, vista.size( ), "La vista no refleja los cambios del conjunto" );
+            assertEquals( "cab", vista.higher( "ca" ), "La vista no refleja los cambios del conjunto" );
+            try
+            {
+                vista.add( "cabra" );
+                fail( "La vista debería ser de sólo lectura" );
+            }
+            catch( UnsupportedOperationException e )
+            {
+                // Se esperaba la excepción
+            }
+        }
+    }
+
+    @Test
+    void testGetRango( )
+    {
+        for( AlmacenamientoConjunto almacenamiento : AlmacenamientoConjunto.values( ) )
+        {
+            SandboxConjuntos conjunto = new SandboxConjuntos( almacenamiento );
+            for( int i = 0; i < cadenasSencillas.length; i++ )
+            {
+                conjunto.agregarCadena( cadenasSencillas[ i ] );
+            }
+
+            assertEquals( Arrays.asList( "a", "c" ), new ArrayList<String>( conjunto.getRango( "B", false, "d", false ) ), "No retornó las cadenas del rango" );
+            assertEquals( Arrays.asList( "B", "a", "c", "d" ), new ArrayList<String>( conjunto.getRango( "B", true, "d", true ) ), "No retornó las cadenas del rango" );
+            assertEquals( Arrays.asList( "c", "d", "e" ), new ArrayList<String>( conjunto.getRango( "b", true, "z", true ) ), "No retornó las cadenas del rango" );
+            assertEquals( 0, conjunto.getRango( "f", true, "z", true ).size( ), "El rango debería estar vacío" );
+            try
+            {
+                conjunto.getRango( "d", true, "a", true );
+                fail( "Debería fallar si el inicio del rango es mayor que el final" );
+            }
+            catch( IllegalArgumentException e )
+            {
+                // Se esperaba la excepción
+            }
+        }
+    }
+
+    @Test
+    void testContarEnRango( )
+    {
+        for( AlmacenamientoConjunto almacenamiento : AlmacenamientoConjunto.values( ) )
+        {
+            SandboxConjuntos conjunto = new SandboxConjuntos( almacenamiento );
+            TreeSet<String> esperado = new TreeSet<String>( );
+            for( int i = 0; i < 2000; i++ )
+            {
+                String cadena = "/srv/" + ( i % 13 ) + "/" + ( i * 7 % 101 );
+                conjunto.agregarCadena( cadena );
+                esperado.add( cadena );
+            }
+
+            String[] limites = new String[]{ "", "/srv/1", "/srv/1/", "/srv/10/5", "/srv/12/99", "/srv/2", "/srv/7/", "/srv/9/100", "/t" };
+            for( int i = 0; i < limites.length; i++ )
+            {
+                for( int j = i; j < limites.length; j++ )
+                {
+                    assertEquals( esperado.subSet( limites[ i ], true, limites[ j ], false ).size( ), conjunto.contarEnRango( limites[ i ], true, limites[ j ], false ), "No contó correctamente las cadenas del rango" );
+                    assertEquals( esperado.subSet( limites[ i ], false, limites[ j ], true ).size( ), conjunto.contarEnRango( limites[ i ], false, limites[ j ], true ), "No contó correctamente las cadenas del rango" );
+                }
+            }
+            assertEquals( 0, vacio.contarEnRango( "a", true, "z", true ), "No contó correctamente las cadenas del rango" );
+        }
+    }
+
     @Test
     void testAgregarCadenaVacio( )
     {
@@ -274,6 +425,92 @@ class TestSandboxConjuntos
         assertEquals( 0, vacio.getCantidadCadenas( ), "La cantidad de cadenas debería seguir siendo la misma" );
     }
 
+    @Test
+    void testEliminarCadenaSinMayusculasOMinusculasVariasFormas( )
+    {
+        vacio.agregarCadena( "hola" );
+        vacio.agregarCadena( "Hola" );
+        vacio.agregarCadena( "HOLA" );
+        vacio.agregarCadena( "hol" );
+        vacio.agregarCadena( "holas" );
+
+        vacio.eliminarCadenaSinMayusculasOMinusculas( "hOlA" );
+        assertEquals( 2, vacio.getCantidadCadenas( ), "No se eliminaron todas las formas de la cadena" );
+        assertEquals( Arrays.asList( "hol", "holas" ), vacio.getCadenasComoLista( ), "Se eliminaron cadenas diferentes" );
+    }
+
+    @Test
+    void testContarAparicionesSinMayusculasOMinusculas( )
+    {
+        sencillo.agregarCadena( "b" );
+        sencillo.agregarCadena( "C" );
+
+        assertTrue( sencillo.contieneCadenaSinMayusculasOMinusculas( "A" ), "No encontró la cadena" );
+        assertFalse( sencillo.contieneCadenaSinMayusculasOMinusculas( "z" ), "Encontró una cadena que no está" );
+        assertEquals( 2, sencillo.contarApariciones( "b" ), "No contó correctamente las formas de la cadena" );
+        assertEquals( 2, sencillo.contarApariciones( "c" ), "No contó correctamente las formas de la cadena" );
+        assertEquals( 1, sencillo.contarApariciones( "E" ), "No contó correctamente las formas de la cadena" );
+        assertEquals( 0, vacio.contarApariciones( "a" ), "No contó correctamente las formas de la cadena" );
+
+        sencillo.eliminarCadena( "B" );
+        sencillo.tomarUltima( );
+        assertEquals( 1, sencillo.contarApariciones( "b" ), "El índice no se actualizó al eliminar una cadena" );
+        assertFalse( sencillo.contieneCadenaSinMayusculasOMinusculas( "E" ), "El índice no se actualizó al tomar la última cadena" );
+
+        sencillo.volverMayusculas( );
+        assertEquals( 1, sencillo.contarApariciones( "c" ), "El índice no se actualizó al volver mayúsculas las cadenas" );
+    }
+
+    @Test
+    void testModificarSiguientes( )
+    {
+        verificarModificarSiguientes( sencillo );
+
+        SandboxConjuntos arbol = new SandboxConjuntos( AlmacenamientoConjunto.ARBOL );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            arbol.agregarCadena( cadenasSencillas[ i ] );
+        }
+        verificarModificarSiguientes( arbol );
+    }
+
+    /**
+     * Modifica el conjunto a través de las cadenas siguientes a "c" y verifica que las consultas sin mayúsculas ni minúsculas reflejen los cambios.
+     * @param sandbox Un sandbox con las cadenas de cadenasSencillas
+     */
+    private void verificarModificarSiguientes( SandboxConjuntos sandbox )
+    {
+        String estructura = " (" + sandbox.getAlmacenamientoCadenas( ) + ")";
+        Collection<String> siguientes = sandbox.getSiguientes( "c" );
+
+        assertTrue( siguientes.remove( "d" ), "No se eliminó la cadena a través de las cadenas siguientes" + estructura );
+        assertFalse( sandbox.contieneCadenaSinMayusculasOMinusculas( "D" ), "El índice no se actualizó al eliminar a través de las cadenas siguientes" + estructura );
+        assertEquals( 0, sandbox.contarApariciones( "d" ), "El índice no se actualizó al eliminar a través de las cadenas siguientes" + estructura );
+
+        assertTrue( siguientes.add( "cC" ), "No se agregó la cadena a través de las cadenas siguientes" + estructura );
+        assertTrue( sandbox.contieneCadenaSinMayusculasOMinusculas( "CC" ), "El índice no se actualizó al agregar a través de las cadenas siguientes" + estructura );
+        assertEquals( 1, sandbox.contarApariciones( "Cc" ), "El índice no se actualizó al agregar a través de las cadenas siguientes" + estructura );
+
+        try
+        {
+            siguientes.add( "b" );
+            fail( "No se debería poder agregar una cadena menor a través de las cadenas siguientes" + estructura );
+        }
+        catch( IllegalArgumentException e )
+        {
+            // Se esperaba la excepción
+        }
+
+        siguientes.removeIf( cadena -> cadena.equals( "e" ) );
+        assertFalse( sandbox.contieneCadenaSinMayusculasOMinusculas( "e" ), "El índice no se actualizó al eliminar con el iterador" + estructura );
+
+        siguientes.clear( );
+        assertEquals( Arrays.asList( "B", "a" ), sandbox.getCadenasComoLista( ), "No se eliminaron las cadenas siguientes del conjunto" + estructura );
+        assertEquals( 0, sandbox.contarApariciones( "c" ), "El índice no se actualizó al vaciar las cadenas siguientes" + estructura );
+        assertEquals( 0, sandbox.contarApariciones( "cc" ), "El índice no se actualizó al vaciar las cadenas siguientes" + estructura );
+        assertEquals( 1, sandbox.contarApariciones( "b" ), "El índice no debería cambiar para las cadenas anteriores" + estructura );
+    }
+
     @Test
     void testEliminarPrimera( )
     {
@@ -333,6 +570,38 @@ class TestSandboxConjuntos
         }
     }
 
+    @Test
+    void testAlmacenamientoTrie( )
+    {
+        assertEquals( AlmacenamientoConjunto.TRIE, vacio.getAlmacenamientoCadenas( ), "El conjunto debería guardarse por defecto en un trie" );
+
+        SandboxConjuntos arbol = new SandboxConjuntos( AlmacenamientoConjunto.ARBOL );
+        SandboxConjuntos trie = new SandboxConjuntos( AlmacenamientoConjunto.TRIE );
+        for( int i = 0; i < cadenasSencillas.length; i++ )
+        {
+            arbol.agregarCadena( cadenasSencillas[ i ] );
+            trie.agregarCadena( cadenasSencillas[ i ] );
+        }
+
+        assertEquals( AlmacenamientoConjunto.ARBOL, arbol.getAlmacenamientoCadenas( ), "La estructura del conjunto no es la correcta" );
+        assertEquals( AlmacenamientoConjunto.TRIE, trie.getAlmacenamientoCadenas( ), "La estructura del conjunto no es la correcta" );
+        assertEquals( Arrays.asList( cadenasOrdenadas ), trie.getCadenasComoLista( ), "El trie no tiene las cadenas esperadas en orden" );
+        assertEquals( arbol.getCadenasComoListaInvertida( ), trie.getCadenasComoListaInvertida( ), "El trie no recorrió las cadenas en orden inverso" );
+        assertEquals( new ArrayList<String>( arbol.getSiguientes( "ccc" ) ), new ArrayList<String>( trie.getSiguientes( "ccc" ) ), "El trie no retornó las cadenas siguientes" );
+        assertEquals( cadenasOrdenadas[ 0 ], trie.getPrimera( ), "El primer elemento retornado no es el correcto" );
+        assertEquals( cadenasOrdenadas[ cadenasOrdenadas.length - 1 ], trie.getUltima( ), "El último elemento retornado no es el correcto" );
+
+        trie.eliminarCadenaSinMayusculasOMinusculas( "b" );
+        assertFalse( trie.contieneCadenaSinMayusculasOMinusculas( "B" ), "No se eliminó la cadena sin tener en cuenta mayúsculas y minúsculas" );
+        trie.volverMayusculas( );
+        assertEquals( AlmacenamientoConjunto.TRIE, trie.getAlmacenamientoCadenas( ), "La estructura del conjunto debería conservarse" );
+        assertEquals( Arrays.asList( "A", "C", "D", "E" ), trie.getCadenasComoLista( ), "No se volvieron mayúsculas las cadenas" );
+
+        sencillo.setAlmacenamientoCadenas( AlmacenamientoConjunto.ARBOL );
+        assertEquals( AlmacenamientoConjunto.ARBOL, sencillo.getAlmacenamientoCadenas( ), "No se cambió la estructura del conjunto" );
+        assertEquals( Arrays.asList( cadenasOrdenadas ), sencillo.getCadenasComoLista( ), "Cambiar la estructura no debería cambiar las cadenas" );
+    }
+
     @Test
     void testInvertirCadenasVacio( )
     {
@@ -6,13 +6,18 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.nio.IntBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.AlmacenamientoCadenas;
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
+import uniandes.dpoo.estructuras.logica.HistogramaEnteros;
 import uniandes.dpoo.estructuras.logica.SandboxListas;
 
 class TestSandboxListas
@@ -119,6 +124,55 @@ class TestSandboxListas
         assertEquals( 0, copia.size( ), "La cantidad de cadenas en el sandbox vacío no es correcta" );
     }
 
+    @Test
+    void testGetVistas( )
+    {
+        for( int i = 0; i < 5; i++ )
+        {
+            vacio.agregarEntero( i - 2 );
+        }
+        vacio.agregarCadena( "a" );
+
+        IntBuffer vistaEnteros = vacio.getVistaEnteros( );
+        List<String> vistaCadenas = vacio.getVistaCadenas( );
+        assertTrue( vistaEnteros.isReadOnly( ), "La vista debería ser de sólo lectura" );
+
+        vacio.volverPositivos( );
+        vacio.eliminarEnteroPorPosicion( 0 );
+        vacio.agregarCadena( "b" );
+
+        assertEquals( 5, vistaEnteros.limit( ), "Modificar la lista no debería cambiar la vista de enteros" );
+        for( int i = 0; i < 5; i++ )
+        {
+            assertEquals( i - 2, vistaEnteros.get( i ), "Modificar la lista no debería cambiar la vista de enteros" );
+        }
+        assertEquals( 4, vacio.getCantidadEnteros( ), "No se modificó correctamente la lista" );
+        assertEquals( 2, vistaCadenas.size( ), "La vista de cadenas debería reflejar la lista actual" );
+
+        try
+        {
+            vistaCadenas.add( "c" );
+            fail( "La vista no debería poder modificarse" );
+        }
+        catch( UnsupportedOperationException e )
+        {
+            // Se esperaba la excepción
+        }
+    }
+
+    @Test
+    void testGetVistaEnterosAgregarAlFinal( )
+    {
+        vacio.agregarEntero( 1 );
+        IntBuffer vista = vacio.getVistaEnteros( );
+        vacio.agregarEntero( 42 );
+
+        assertEquals( 1, vista.capacity( ), "La capacidad de la vista debería ser la cantidad de enteros que había" );
+        vista.limit( vista.capacity( ) );
+        assertEquals( 1, vista.remaining( ), "La vista no debería mostrar los enteros agregados después" );
+        assertEquals( 1, vista.get( 0 ), "Agregar enteros no debería cambiar la vista" );
+    }
+
     @Test
     void testGetCopiaEnterosComoArreglos( )
     {
@@ -167,6 +221,26 @@ class TestSandboxListas
         assertEquals( 99, copia.get( 0 ), "El nuevo entero no quedó almacenado al final de la lista" );
     }
 
+    @Test
+    void testAgregarEInsertarMuchosEnteros( )
+    {
+        for( int i = 0; i < 500; i++ )
+        {
+            vacio.agregarEntero( i );
+            vacio.insertarEntero( -i, 0 );
+        }
+        assertEquals( 1000, vacio.getCantidadEnteros( ), "La cantidad de enteros no es correcta" );
+
+        int[] arreglo = vacio.getEnterosComoArreglo( );
+        List<Integer> copia = vacio.getCopiaEnteros( );
+        for( int i = 0; i < 500; i++ )
+        {
+            assertEquals( -( 499 - i ), arreglo[ i ], "Los enteros insertados al principio no quedaron en el orden esperado" );
+            assertEquals( i, arreglo[ 500 + i ], "Los enteros agregados al final no quedaron en el orden esperado" );
+            assertEquals( arreglo[ i ], copia.get( i ), "La copia de la lista no coincide con el arreglo" );
+        }
+    }
+
     @Test
     void testAgregarCadena( )
     {
@@ -253,6 +327,58 @@ class TestSandboxListas
         assertEquals( 0, vacio.getCantidadCadenas( ), "La cantidad de cadenas debería seguir siendo la misma" );
     }
 
+    @Test
+    void testEliminarEnteros( )
+    {
+        int[] valores = new int[]{ 4, 1, 4, 9, 2, 1, 7, Integer.MAX_VALUE, 4 };
+        for( int valor : valores )
+        {
+            vacio.agregarEntero( valor );
+        }
+
+        int eliminados = vacio.eliminarEnteros( new int[]{ 4, 1, 1, Integer.MAX_VALUE, 100 } );
+        assertEquals( 6, eliminados, "La cantidad de enteros eliminados no es correcta" );
+
+        int[] restantes = vacio.getEnterosComoArreglo( );
+        assertEquals( 3, restantes.length, "La cantidad de enteros no es correcta" );
+        assertEquals( 9, restantes[ 0 ], "No se conservó el orden de los enteros restantes" );
+        assertEquals( 2, restantes[ 1 ], "No se conservó el orden de los enteros restantes" );
+        assertEquals( 7, restantes[ 2 ], "No se conservó el orden de los enteros restantes" );
+
+        assertEquals( 0, vacio.eliminarEnteros( new int[]{ Integer.MIN_VALUE } ), "No debería haber eliminado ningún entero" );
+        assertEquals( 0, vacio.eliminarEnteros( new int[0] ), "No debería haber eliminado ningún entero" );
+    }
+
+    @Test
+    void testEliminarEnterosColeccion( )
+    {
+        for( int i = 0; i < 1000; i++ )
+        {
+            vacio.agregarEntero( i % 10 );
+        }
+
+        int eliminados = vacio.eliminarEnteros( Arrays.asList( 0, 2, 4, 6, 8 ) );
+        assertEquals( 500, eliminados, "La cantidad de enteros eliminados no es correcta" );
+        assertEquals( 500, vacio.getCantidadEnteros( ), "La cantidad de enteros no es correcta" );
+        int[] restantes = vacio.getEnterosComoArreglo( );
+        for( int i = 0; i < restantes.length; i++ )
+        {
+            assertEquals( ( 2 * i + 1 ) % 10, restantes[ i ], "No se conservó el orden de los enteros restantes" );
+        }
+    }
+
+    @Test
+    void testEliminarEnterosColeccionConNull( )
+    {
+        vacio.agregarEntero( 1 );
+        vacio.agregarEntero( 2 );
+        vacio.agregarEntero( 3 );
+
+        int eliminados = vacio.eliminarEnteros( Arrays.asList( 2, null, 3, 2 ) );
+        assertEquals( 2, eliminados, "La cantidad de enteros eliminados no es correcta" );
+        assertEquals( 1, vacio.getEnterosComoArreglo( )[ 0 ], "No se eliminaron correctamente los enteros" );
+    }
+
     @Test
     void testEliminarEnteroPorPosicionCorrectos( )
     {
@@ -446,6 +572,27 @@ class TestSandboxListas
         }
     }
 
+    @Test
+    void testAlmacenamientoCadenas( )
+    {
+        assertEquals( AlmacenamientoCadenas.ARREGLO, sencillo.getAlmacenamientoCadenas( ), "El almacenamiento por defecto debería ser un arreglo" );
+        sencillo.reiniciarArregloCadenas( Arrays.asList( new Object[]{ "x", "y" } ) );
+        assertEquals( AlmacenamientoCadenas.ARREGLO, sencillo.getAlmacenamientoCadenas( ), "Reiniciar la lista no debería cambiar el almacenamiento" );
+
+        sencillo.setAlmacenamientoCadenas( AlmacenamientoCadenas.ENLAZADO );
+        assertEquals( AlmacenamientoCadenas.ENLAZADO, sencillo.getAlmacenamientoCadenas( ), "No se cambió el almacenamiento" );
+        List<String> copia = sencillo.getCopiaCadenas( );
+        assertEquals( 2, copia.size( ), "Cambiar el almacenamiento no debería cambiar las cadenas" );
+        assertEquals( "x", copia.get( 0 ), "Cambiar el almacenamiento no debería cambiar las cadenas" );
+        assertEquals( "y", copia.get( 1 ), "Cambiar el almacenamiento no debería cambiar las cadenas" );
+
+        sencillo.reiniciarArregloCadenas( Arrays.asList( new Object[]{ "z" } ) );
+        assertEquals( AlmacenamientoCadenas.ENLAZADO, sencillo.getAlmacenamientoCadenas( ), "Reiniciar la lista no debería cambiar el almacenamiento" );
+
+        SandboxListas enlazado = new SandboxListas( AlmacenamientoCadenas.ENLAZADO );
+        assertEquals( AlmacenamientoCadenas.ENLAZADO, enlazado.getAlmacenamientoCadenas( ), "No se usó el almacenamiento indicado" );
+    }
+
     @Test
     void testVolverPositivos( )
     {
@@ -466,6 +613,49 @@ class TestSandboxListas
         assertEquals( 0, copia.size( ), "La cantidad de enteros es correcta" );
     }
 
+    @Test
+    void testTransformarEnteros( )
+    {
+        for( int i = 0; i < 100; i++ )
+        {
+            vacio.agregarEntero( i - 50 );
+        }
+
+        vacio.transformarEnteros( valor -> valor * 2 );
+        int[] secuencial = vacio.getEnterosComoArreglo( );
+        assertEquals( 100, secuencial.length, "La cantidad de enteros no debería cambiar" );
+        for( int i = 0; i < secuencial.length; i++ )
+        {
+            assertEquals( ( i - 50 ) * 2, secuencial[ i ], "No se transformaron correctamente los enteros" );
+        }
+
+        vacio.transformarEnteros( valor -> valor + 1, true );
+        int[] paralelo = vacio.getEnterosComoArreglo( );
+        assertEquals( 100, paralelo.length, "La cantidad de enteros no debería cambiar" );
+        for( int i = 0; i < paralelo.length; i++ )
+        {
+            assertEquals( ( i - 50 ) * 2 + 1, paralelo[ i ], "No se transformaron correctamente los enteros en paralelo" );
+        }
+    }
+
+    @Test
+    void testTransformarEnterosSecuencialListaGrande( )
+    {
+        int cantidad = 100000;
+        for( int i = 0; i < cantidad; i++ )
+        {
+            vacio.agregarEntero( 0 );
+        }
+
+        int[] contador = new int[]{ 0 };
+        vacio.transformarEnteros( valor -> contador[ 0 ]++ );
+        int[] transformados = vacio.getEnterosComoArreglo( );
+        for( int i = 0; i < cantidad; i++ )
+        {
+            assertEquals( i, transformados[ i ], "La operación se debería aplicar en orden, de la primera a la última posición" );
+        }
+    }
+
     @Test
     void testContarEntero( )
     {
@@ -572,6 +762,48 @@ class TestSandboxListas
         assertEquals( 0, vacio.contarEnterosRepetidos( ), "No contó correctamente la cantidad de enteros que están repetidos" );
     }
 
+    @Test
+    void testCalcularFrecuencias( )
+    {
+        for( int i = 0; i < enterosSinRepetidos.length; i++ )
+        {
+            vacio.agregarEntero( enterosSinRepetidos[ i ] );
+        }
+        for( int i = 6; i < enterosSinRepetidos.length; i++ )
+        {
+            vacio.agregarEntero( enterosSinRepetidos[ i ] );
+            vacio.agregarEntero( enterosSinRepetidos[ i ] );
+        }
+
+        HistogramaEnteros frecuencias = vacio.calcularFrecuencias( );
+        assertEquals( 10, frecuencias.getCantidadLlaves( ), "La cantidad de valores diferentes no es correcta" );
+        assertEquals( 3, frecuencias.getConteo( 0 ), "La frecuencia del valor 0 no es correcta" );
+        assertEquals( 1, frecuencias.getConteo( 9 ), "La frecuencia del valor 9 no es correcta" );
+        assertEquals( 0, frecuencias.getConteo( 100 ), "La frecuencia de un valor que no está no es correcta" );
+        assertEquals( 4, frecuencias.contarRepetidos( ), "La cantidad de valores repetidos no es correcta" );
+
+        assertEquals( 0, sinRepetidos.calcularFrecuencias( ).contarRepetidos( ), "No debería haber valores repetidos" );
+    }
+
+    @Test
+    void testGetMasFrecuentes( )
+    {
+        int[] valores = new int[]{ 5, 7, 7, 3, 5, 7, -1, 5, 3, 8, 7 };
+        for( int i = 0; i < valores.length; i++ )
+        {
+            vacio.agregarEntero( valores[ i ] );
+        }
+
+        int[] masFrecuentes = vacio.getMasFrecuentes( 3 );
+        assertEquals( 3, masFrecuentes.length, "La cantidad de valores retornados no es correcta" );
+        assertEquals( 7, masFrecuentes[ 0 ], "El valor más frecuente no es correcto" );
+        assertEquals( 5, masFrecuentes[ 1 ], "El segundo valor más frecuente no es correcto" );
+        assertEquals( 3, masFrecuentes[ 2 ], "El tercer valor más frecuente no es correcto" );
+
+        assertEquals( 5, vacio.getMasFrecuentes( 100 ).length, "No se pueden retornar más valores que los que hay" );
+        assertEquals( 0, new SandboxListas( ).getMasFrecuentes( 3 ).length, "No se pueden retornar más valores que los que hay" );
+    }
+
     @Test
     void testCompararArregloEnterosIguales( )
     {
@@ -594,6 +826,17 @@ class TestSandboxListas
         assertFalse( vacio.compararArregloEnteros( enterosSencillos ), "No comparó correctamente los arreglos cuando eran diferentes" );
     }
 
+    @Test
+    void testCompararArregloEnterosTamanoDiferente( )
+    {
+        vacio.agregarEntero( 3 );
+        vacio.agregarEntero( 5 );
+
+        assertTrue( vacio.compararArregloEnteros( new int[]{ 3, 5 } ), "No comparó correctamente los arreglos cuando eran iguales" );
+        assertFalse( vacio.compararArregloEnteros( new int[]{ 3 } ), "No comparó correctamente un arreglo más corto que la lista" );
+        assertFalse( vacio.compararArregloEnteros( new int[]{ 3, 5, 7 } ), "No comparó correctamente un arreglo más largo que la lista" );
+    }
+
     @Test
     void testGenerarEnterosBasico( )
     {
@@ -659,4 +902,37 @@ class TestSandboxListas
             fail( "Los valores no están bien distribuidos" );
     }
 
+
+    @Test
+    void testGenerarEnterosEnPool( )
+    {
+        ForkJoinPool pool = new ForkJoinPool( 2 );
+        try
+        {
+            sencillo.generarEnteros( 200000, -10, 10, new GeneradorEnteros( 11 ) );
+            vacio.generarEnteros( 200000, -10, 10, new GeneradorEnteros( 11 ), pool );
+            assertTrue( vacio.compararArregloEnteros( sencillo.getEnterosComoArreglo( ) ), "Generar en paralelo debería producir la misma serie" );
+        }
+        finally
+        {
+            pool.shutdown( );
+        }
+    }
+
+    @Test
+    void testGenerarEnterosConSemilla( )
+    {
+        sencillo.generarEnteros( 1000, -10, 10, new GeneradorEnteros( 7 ) );
+        vacio.generarEnteros( 1000, -10, 10, new GeneradorEnteros( 7 ) );
+        assertTrue( vacio.compararArregloEnteros( sencillo.getEnterosComoArreglo( ) ), "La misma semilla debería generar la misma serie" );
+
+        vacio.generarEnterosDistintos( 21, -10, 10, new GeneradorEnteros( 7 ) );
+        assertEquals( 21, vacio.getCantidadEnteros( ), "La cantidad de elementos no es correcta" );
+        assertEquals( 0, vacio.contarEnterosRepetidos( ), "No debería haber enteros repetidos" );
+        for( int valor = -10; valor <= 10; valor++ )
+        {
+            assertEquals( 1, vacio.contarApariciones( valor ), "Todos los valores del rango deberían aparecer una vez" );
+        }
+    }
+
 }